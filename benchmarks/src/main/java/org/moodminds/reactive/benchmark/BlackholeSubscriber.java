@@ -0,0 +1,28 @@
+package org.moodminds.reactive.benchmark;
+
+import org.moodminds.reactive.Publishable;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+import reactor.util.context.Context;
+
+/**
+ * A {@link Publishable.Subscriber} requesting unbounded demand and sinking every signal into a {@link Blackhole}.
+ *
+ * @param <V> the type of items to consume
+ */
+final class BlackholeSubscriber<V> implements Publishable.Subscriber<V, Exception> {
+
+    private final Blackhole blackhole;
+    private final Context context;
+
+    BlackholeSubscriber(Blackhole blackhole, Context context) {
+        this.blackhole = blackhole; this.context = context;
+    }
+
+    @Override public void onSubscribe(Subscription subscription) { subscription.request(Long.MAX_VALUE); }
+    @Override public void onNext(V item) { blackhole.consume(item); }
+    @Override public void onError(Exception error) { blackhole.consume(error); }
+    @Override public void onError(Throwable error) { blackhole.consume(error); }
+    @Override public void onComplete() { blackhole.consume(true); }
+    @Override public Context currentContext() { return context; }
+}
@@ -0,0 +1,97 @@
+package org.moodminds.reactive.benchmark;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.reactive.FluxPublishable;
+import org.moodminds.reactive.Publishable;
+import org.moodminds.reactive.SubscribeSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.moodminds.reactive.FluxPublishable.flux;
+import static org.moodminds.reactive.Publishable.publishable;
+
+/**
+ * The cost of the {@link Publishable#publishable(SubscribeSupport)} bridging of a {@link SubscribeSupport}
+ * not being a {@link Publishable} already, against subscribing the underlying {@link Publishable} directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BridgeBenchmark {
+
+    @Param({"0", "1", "5", "20"})
+    int entries;
+
+    FluxPublishable<Integer, Exception> source;
+    SubscribeSupport<Integer, Exception> support;
+    Publishable<Integer, Exception> bridged;
+
+    BlackholeSubscriber<Integer> subscriber;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        source = flux(Flux.just(1), Exception.class); support = new Support<>(source);
+        bridged = publishable(support);
+        subscriber = new BlackholeSubscriber<>(blackhole, Contexts.context(entries));
+    }
+
+    @Benchmark
+    public void direct() {
+        source.subscribe(subscriber);
+    }
+
+    @Benchmark
+    public void bridged() {
+        bridged.subscribe(subscriber);
+    }
+
+    @Benchmark
+    public void bridge() {
+        Publishable.<Integer, Exception>publishable(support).subscribe(subscriber);
+    }
+
+
+    /**
+     * A {@link SubscribeSupport} delegating to the given {@link Publishable}, but not being one itself,
+     * so that {@link Publishable#publishable(SubscribeSupport)} has to bridge it.
+     *
+     * @param <V> the type of emitting values
+     * @param <E> the type of possible exception
+     */
+    private static final class Support<V, E extends Exception> implements SubscribeSupport<V, E> {
+
+        private final Publishable<V, E> publishable;
+
+        Support(Publishable<V, E> publishable) {
+            this.publishable = publishable;
+        }
+
+        @Override public void subscribe(org.reactivestreams.Subscriber<? super V> subscriber) {
+            publishable.subscribe(subscriber); }
+        @Override public void subscribe(org.reactivestreams.Subscriber<? super V> subscriber, KeyValue<?, ?>... ctx) {
+            publishable.subscribe(subscriber, ctx); }
+        @Override public void subscribe(Subscriber<? super V, ? super E> subscriber, KeyValue<?, ?>... ctx) {
+            publishable.subscribe(subscriber, ctx); }
+        @Override public void subscribe(org.reactivestreams.Subscriber<? super V> subscriber, Association<?, ?, ?> ctx) {
+            publishable.subscribe(subscriber, ctx); }
+        @Override public void subscribe(Subscriber<? super V, ? super E> subscriber, Association<?, ?, ?> ctx) {
+            publishable.subscribe(subscriber, ctx); }
+    }
+}
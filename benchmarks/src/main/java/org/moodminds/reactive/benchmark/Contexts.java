@@ -0,0 +1,55 @@
+package org.moodminds.reactive.benchmark;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.elemental.WrapKeyValue;
+import org.moodminds.reactive.context.WrapContext;
+import reactor.util.context.Context;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The benchmark subscription contexts of the given number of entries.
+ */
+final class Contexts {
+
+    private Contexts() {}
+
+    /**
+     * Return a {@link KeyValue key-value array} context of the given number of entries.
+     *
+     * @param entries the given number of entries
+     * @return a {@link KeyValue key-value array} context of the given number of entries
+     */
+    static KeyValue<?, ?>[] keyValues(int entries) {
+        KeyValue<?, ?>[] keyValues = new KeyValue<?, ?>[entries];
+        for (int i = 0; i < entries; i++)
+            keyValues[i] = WrapKeyValue.wrap(new SimpleImmutableEntry<Object, Object>("key" + i, "value" + i));
+        return keyValues;
+    }
+
+    /**
+     * Return an {@link Association} context of the given number of entries.
+     *
+     * @param entries the given number of entries
+     * @return an {@link Association} context of the given number of entries
+     */
+    static Association<?, ?, ?> association(int entries) {
+        return new WrapContext(context(entries));
+    }
+
+    /**
+     * Return a {@link Context} of the given number of entries.
+     *
+     * @param entries the given number of entries
+     * @return a {@link Context} of the given number of entries
+     */
+    static Context context(int entries) {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++)
+            map.put("key" + i, "value" + i);
+        return Context.of(map);
+    }
+}
@@ -0,0 +1,90 @@
+package org.moodminds.reactive.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.moodminds.reactive.FluxPublishable.flux;
+import static org.moodminds.reactive.MonoPublishable.mono;
+
+/**
+ * The operator chains throughput on the wrapped {@link Flux} and {@link Mono} sources against the unwrapped ones,
+ * exercising the micro-fusion of the {@code range}, {@code fromIterable} sources and the macro-fusion
+ * of the scalar {@code just} sources.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FusionBenchmark {
+
+    static final int ITEMS = 1024;
+
+    Flux<Integer> range;
+    Flux<Integer> iterable;
+
+    BlackholeSubscriber<Object> subscriber;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        List<Integer> list = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) list.add(i);
+        range = Flux.range(0, ITEMS); iterable = Flux.fromIterable(list);
+        subscriber = new BlackholeSubscriber<>(blackhole, Context.empty());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void rangeChain() {
+        range.map(i -> i + 1).filter(i -> (i & 1) == 0).publishOn(Schedulers.immediate()).subscribe(subscriber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void wrappedRangeChain() {
+        flux(range).map(i -> i + 1).filter(i -> (i & 1) == 0).publishOn(Schedulers.immediate()).subscribe(subscriber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void iterableChain() {
+        iterable.map(i -> i + 1).publishOn(Schedulers.immediate()).subscribe(subscriber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void wrappedIterableChain() {
+        flux(iterable).map(i -> i + 1).publishOn(Schedulers.immediate()).subscribe(subscriber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void scalarFlatMap() {
+        range.flatMap(Mono::just).subscribe(subscriber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void wrappedScalarFlatMap() {
+        range.flatMap(i -> mono(Mono.just(i))).subscribe(subscriber);
+    }
+}
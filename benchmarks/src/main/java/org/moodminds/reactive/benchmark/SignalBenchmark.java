@@ -0,0 +1,97 @@
+package org.moodminds.reactive.benchmark;
+
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.reactive.FluxPublishable;
+import org.moodminds.reactive.MonoPublishable;
+import org.moodminds.reactive.SubscribeSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.moodminds.reactive.FluxPublishable.flux;
+import static org.moodminds.reactive.MonoPublishable.mono;
+
+/**
+ * The per-item signal overhead of the {@link FluxPublishable} and {@link MonoPublishable}
+ * against the plain Reactor's {@link Flux} and {@link Mono}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SignalBenchmark {
+
+    static final int ITEMS = 1024;
+
+    @Param({"0", "1", "5", "20"})
+    int entries;
+
+    Flux<Integer> flux;
+    FluxPublishable<Integer, Exception> fluxPublishable;
+
+    Mono<Integer> mono;
+    MonoPublishable<Integer, Exception> monoPublishable;
+
+    KeyValue<?, ?>[] keyValues;
+
+    BlackholeSubscriber<Integer> subscriber;
+    Executable1Throwing1<Object, RuntimeException> consumer;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        flux = Flux.range(0, ITEMS); fluxPublishable = flux(flux, Exception.class);
+        mono = Mono.just(1); monoPublishable = mono(mono, Exception.class);
+        keyValues = Contexts.keyValues(entries);
+        subscriber = new BlackholeSubscriber<>(blackhole, Contexts.context(entries)); consumer = blackhole::consume;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void reactorFlux() {
+        flux.subscribe(subscriber);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fluxPublishable() {
+        fluxPublishable.subscribe((SubscribeSupport.Subscriber<Integer, Exception>) subscriber, keyValues);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void fluxPublishableConsumer() {
+        fluxPublishable.subscribe(consumer, keyValues);
+    }
+
+    @Benchmark
+    public void reactorMono() {
+        mono.subscribe(subscriber);
+    }
+
+    @Benchmark
+    public void monoPublishable() {
+        monoPublishable.subscribe((SubscribeSupport.Subscriber<Integer, Exception>) subscriber, keyValues);
+    }
+
+    @Benchmark
+    public void monoPublishableConsumer() {
+        monoPublishable.subscribe(consumer, keyValues);
+    }
+}
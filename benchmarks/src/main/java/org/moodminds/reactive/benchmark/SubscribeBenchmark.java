@@ -0,0 +1,104 @@
+package org.moodminds.reactive.benchmark;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.reactive.MonoPublishable;
+import org.moodminds.reactive.SubscribeSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.moodminds.reactive.MonoPublishable.mono;
+
+/**
+ * The subscribe path throughput through each of the {@link org.moodminds.reactive.Publishable#subscribe} overloads
+ * against the plain Reactor's {@link Mono}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SubscribeBenchmark {
+
+    @Param({"0", "1", "5", "20"})
+    int entries;
+
+    Mono<Integer> mono;
+    MonoPublishable<Integer, Exception> publishable;
+
+    KeyValue<?, ?>[] keyValues;
+    Association<?, ?, ?> association;
+    Context context;
+
+    BlackholeSubscriber<Integer> subscriber;
+    Executable1Throwing1<Object, RuntimeException> consumer;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        mono = Mono.just(1); publishable = mono(mono, Exception.class);
+        keyValues = Contexts.keyValues(entries); association = Contexts.association(entries);
+        context = Contexts.context(entries);
+        subscriber = new BlackholeSubscriber<>(blackhole, context); consumer = blackhole::consume;
+    }
+
+    @Benchmark
+    public void reactor() {
+        mono.subscribe(subscriber);
+    }
+
+    @Benchmark
+    public void subscriberKeyValues() {
+        publishable.subscribe((org.reactivestreams.Subscriber<Integer>) subscriber, keyValues);
+    }
+
+    @Benchmark
+    public void subscriberAssociation() {
+        publishable.subscribe((org.reactivestreams.Subscriber<Integer>) subscriber, association);
+    }
+
+    @Benchmark
+    public void faultSubscriberKeyValues() {
+        publishable.subscribe((SubscribeSupport.Subscriber<Integer, Exception>) subscriber, keyValues);
+    }
+
+    @Benchmark
+    public void faultSubscriberAssociation() {
+        publishable.subscribe((SubscribeSupport.Subscriber<Integer, Exception>) subscriber, association);
+    }
+
+    @Benchmark
+    public void consumerKeyValues() {
+        publishable.subscribe(consumer, keyValues);
+    }
+
+    @Benchmark
+    public void consumerAssociation() {
+        publishable.subscribe(consumer, association);
+    }
+
+    @Benchmark
+    public void consumersKeyValues() {
+        publishable.subscribe(consumer, consumer, consumer, keyValues);
+    }
+
+    @Benchmark
+    public void consumersAssociation() {
+        publishable.subscribe(consumer, consumer, consumer, association);
+    }
+}
@@ -0,0 +1,47 @@
+package org.moodminds.reactive;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+
+/**
+ * An {@link IndexedSubscription} emitting the elements of an array, also polled synchronously
+ * when fused by a Reactor's operator.
+ *
+ * @param <V> the type of item values
+ */
+class ArraySubscription<V> extends IndexedSubscription implements Fuseable.SynchronousSubscription<V> {
+
+    private static final long serialVersionUID = 5087432198623146715L;
+
+    private final CoreSubscriber<? super V> subscriber;
+    private final V[] items;
+
+    /**
+     * The index of the next item to poll in the fused mode.
+     */
+    private int polled;
+
+    ArraySubscription(CoreSubscriber<? super V> subscriber, V[] items) {
+        super(subscriber, items.length);
+        this.subscriber = subscriber; this.items = items;
+    }
+
+    @Override protected void emit(long index) {
+        V item = items[(int) index];
+        if (item == null) {
+            cancel(); subscriber.onError(new NullPointerException("The " + index + "th array element was null")); }
+        else subscriber.onNext(item); }
+
+    @Override public V poll() {
+        if (polled == items.length) return null;
+        V item = items[polled];
+        if (item == null)
+            throw new NullPointerException("The " + polled + "th array element was null");
+        polled++; return item; }
+
+    @Override public int size() { return items.length - polled; }
+
+    @Override public boolean isEmpty() { return polled == items.length; }
+
+    @Override public void clear() { polled = items.length; }
+}
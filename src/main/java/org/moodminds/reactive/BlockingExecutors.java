@@ -0,0 +1,67 @@
+package org.moodminds.reactive;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The {@link Executor} factory for the blocking subscription and item consumption,
+ * to pass to the {@link Publishable#subscribeOn(Executor)} and {@link Publishable#publishOn(Executor)}.
+ * <p>
+ * On Java 8 to 20 the default {@link Executor} is a bounded pool of daemon threads, sized as the Reactor's
+ * bounded-elastic scheduler is. The Java 21+ layer of this multi-release jar makes it run each task
+ * on a new virtual thread instead.
+ */
+public final class BlockingExecutors {
+
+    /**
+     * The maximum number of the pool threads.
+     */
+    private static final int POOL_SIZE = 10 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of the tasks queued to the pool.
+     */
+    private static final int QUEUE_SIZE = 100_000;
+
+    private BlockingExecutors() {}
+
+    /**
+     * Return the shared default {@link Executor} for the blocking tasks.
+     *
+     * @return the shared default {@link Executor} for the blocking tasks
+     */
+    public static Executor executor() {
+        return Default.EXECUTOR;
+    }
+
+    /**
+     * Check if the {@link #executor()} runs the tasks on the virtual threads.
+     *
+     * @return {@code true} if the {@link #executor()} runs the tasks on the virtual threads
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * The lazily initialized default {@link Executor} holder.
+     */
+    private static final class Default {
+
+        static final Executor EXECUTOR; static {
+            AtomicLong counter = new AtomicLong();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "publishable-blocking-" + counter.incrementAndGet());
+                thread.setDaemon(true); return thread; };
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 60, SECONDS,
+                    new LinkedBlockingQueue<>(QUEUE_SIZE), factory);
+            executor.allowCoreThreadTimeOut(true);
+            EXECUTOR = executor;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.moodminds.reactive;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A blocking iterator over the items of a {@link Publishable}, rethrowing its {@link E} fault as is.
+ * Closing the iterator cancels the underlying subscription.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+public interface BlockingIterator<V, E extends Exception> extends AutoCloseable {
+
+    /**
+     * Check if there is a next item, blocking until it arrives or the {@link Publishable} terminates.
+     *
+     * @return {@code true} if there is a next item
+     * @throws E in case of the {@link Publishable} fault
+     */
+    boolean hasNext() throws E;
+
+    /**
+     * Return the next item, blocking until it arrives or the {@link Publishable} terminates.
+     *
+     * @return the next item
+     * @throws E                      in case of the {@link Publishable} fault
+     * @throws NoSuchElementException if there are no more items
+     */
+    V next() throws E;
+
+    /**
+     * Cancel the underlying subscription.
+     */
+    @Override
+    void close();
+}
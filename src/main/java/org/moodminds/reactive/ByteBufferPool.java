@@ -0,0 +1,118 @@
+package org.moodminds.reactive;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A bounded pool of the direct {@link ByteBuffer}s of the same capacity, shared by the {@link ByteChannels}
+ * sources acquiring them and the consumers releasing them once done.
+ * <p>
+ * The pool owns up to its maximum number of buffers, tracked by identity, and takes back only an owned buffer
+ * acquired and not released yet, ignoring any other one, such as a buffer of the caller, a duplicate or a slice
+ * of an owned one, or one released twice. A buffer acquired while all the owned ones are in use is allocated
+ * unowned, so it is simply garbage collected.
+ */
+public final class ByteBufferPool {
+
+    /**
+     * The shared default pool of 64 KiB buffers.
+     */
+    private static final ByteBufferPool DEFAULT = new ByteBufferPool(64 * 1024, 64);
+
+    /**
+     * The capacity of the buffers holder field.
+     */
+    private final int bufferSize;
+
+    /**
+     * The maximum number of the owned buffers holder field.
+     */
+    private final int maxPooled;
+
+    /**
+     * The owned buffers by identity, mapped to whether acquired and not released yet, guarded by this pool.
+     */
+    private final Map<ByteBuffer, Boolean> owned = new IdentityHashMap<>();
+
+    /**
+     * The owned buffers released, guarded by this pool.
+     */
+    private final ArrayDeque<ByteBuffer> released = new ArrayDeque<>();
+
+    /**
+     * Construct the object with the given capacity of the buffers and maximum number of the owned ones.
+     *
+     * @param bufferSize the given capacity of the buffers
+     * @param maxPooled  the given maximum number of the owned buffers
+     */
+    private ByteBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize; this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Return the capacity of the buffers of this pool.
+     *
+     * @return the capacity of the buffers of this pool
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Take a cleared released buffer off this pool, or allocate a new one, owned if this pool
+     * owns fewer than its maximum number of buffers.
+     *
+     * @return a cleared buffer
+     */
+    public ByteBuffer acquire() {
+        synchronized (this) {
+            ByteBuffer buffer = released.poll();
+            if (buffer == null && owned.size() < maxPooled)
+                buffer = ByteBuffer.allocateDirect(bufferSize);
+            if (buffer != null) {
+                owned.put(buffer, Boolean.TRUE); ((Buffer) buffer).clear(); return buffer; } }
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Return the given buffer to this pool, if it is owned by this pool and acquired and not released yet.
+     *
+     * @param buffer the given buffer
+     * @return {@code true} if the given buffer is returned to this pool
+     */
+    public boolean release(ByteBuffer buffer) {
+        if (buffer == null) return false;
+        synchronized (this) {
+            if (!owned.replace(buffer, Boolean.TRUE, Boolean.FALSE))
+                return false;
+            released.push(buffer); return true; }
+    }
+
+    /**
+     * Return the shared default pool of the 64 KiB direct buffers, owning up to 64 of them.
+     *
+     * @return the shared default pool
+     */
+    public static ByteBufferPool pool() {
+        return DEFAULT;
+    }
+
+    /**
+     * Return a new pool of the direct buffers of the given capacity, owning up to the given number of them.
+     *
+     * @param bufferSize the given capacity of the buffers
+     * @param maxPooled  the given maximum number of the owned buffers
+     * @return a new pool of the direct buffers
+     * @throws IllegalArgumentException if the specified capacity or maximum number is not positive
+     */
+    public static ByteBufferPool pool(int bufferSize, int maxPooled) {
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        if (maxPooled <= 0)
+            throw new IllegalArgumentException("Maximum pooled must be positive: " + maxPooled);
+        return new ByteBufferPool(bufferSize, maxPooled);
+    }
+}
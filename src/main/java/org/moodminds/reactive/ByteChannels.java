@@ -0,0 +1,313 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The factory of the {@link ByteBuffer} {@link Publishable}s reading the NIO channels and of the ones writing
+ * them to a channel, typed by the {@link IOException} fault.
+ * <p>
+ * The sources are backpressured: a buffer is read or sliced only when requested, on the requesting thread,
+ * so that a blocking channel is to be subscribed on the {@link BlockingExecutors#executor()}. The read buffers
+ * are taken off a {@link ByteBufferPool} and may be released to it by the consumer once done, which the
+ * {@link #write(Publishable, WritableByteChannel, int, ByteBufferPool) writing} one does after each write.
+ */
+public final class ByteChannels {
+
+    /**
+     * The minimum size of a file to map rather than read.
+     */
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+
+    /**
+     * The maximum size of a file region mapped at once.
+     */
+    private static final long MAP_WINDOW = 1L << 30;
+
+    private ByteChannels() {}
+
+    /**
+     * Return a Publishable of the whole content of the given {@link FileChannel}, mapped to memory
+     * if the file is large, otherwise read into the {@link ByteBufferPool#pool() default pool} buffers.
+     *
+     * @param channel the given {@link FileChannel}
+     * @return a Publishable of the whole content of the given {@link FileChannel}
+     * @throws NullPointerException if the specified {@link FileChannel} is {@code null}
+     */
+    public static Publishable<ByteBuffer, IOException> file(FileChannel channel) {
+        return file(channel, ByteBufferPool.pool());
+    }
+
+    /**
+     * Return a Publishable of the whole content of the given {@link FileChannel}, mapped to memory and sliced
+     * into the buffers of the given pool's size if the file is large, otherwise read into the given pool buffers.
+     *
+     * @param channel the given {@link FileChannel}
+     * @param pool    the given {@link ByteBufferPool}
+     * @return a Publishable of the whole content of the given {@link FileChannel}
+     * @throws NullPointerException if the specified {@link FileChannel} or {@link ByteBufferPool} is {@code null}
+     */
+    public static Publishable<ByteBuffer, IOException> file(FileChannel channel, ByteBufferPool pool) {
+        requireNonNull(channel); requireNonNull(pool);
+        Publishable<ByteBuffer, IOException> mapped = map(channel, pool.bufferSize());
+        return new ChannelSource<ByteBuffer>(subscriber -> {
+            long size;
+            try { size = channel.size(); }
+            catch (IOException e) { Operators.error(subscriber, e); return; }
+            if (size >= MAP_THRESHOLD) mapped.subscribe(subscriber);
+            else {
+                try { channel.position(0); }
+                catch (IOException e) { Operators.error(subscriber, e); return; }
+                subscriber.onSubscribe(new ReadSubscription(subscriber, channel, pool)); } });
+    }
+
+    /**
+     * Return a Publishable of the whole content of the given {@link FileChannel} mapped to memory read-only,
+     * a region at a time, and emitted as the zero-copy slices of the given size, the last one possibly shorter.
+     * The slices are read-only and not to be released to a {@link ByteBufferPool}.
+     *
+     * @param channel   the given {@link FileChannel}
+     * @param sliceSize the given size of the slices
+     * @return a Publishable of the whole content of the given {@link FileChannel} mapped to memory
+     * @throws NullPointerException     if the specified {@link FileChannel} is {@code null}
+     * @throws IllegalArgumentException if the specified size of the slices is not positive
+     */
+    public static Publishable<ByteBuffer, IOException> map(FileChannel channel, int sliceSize) {
+        requireNonNull(channel);
+        if (sliceSize <= 0)
+            throw new IllegalArgumentException("Slice size must be positive: " + sliceSize);
+        return new ChannelSource<ByteBuffer>(subscriber -> {
+            long size;
+            try { size = channel.size(); }
+            catch (IOException e) { Operators.error(subscriber, e); return; }
+            if (size == 0) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new MapSubscription(subscriber, channel, size, sliceSize)); });
+    }
+
+    /**
+     * Return a Publishable of the content of the given {@link ReadableByteChannel} read from its current position
+     * into the {@link ByteBufferPool#pool() default pool} buffers.
+     *
+     * @param channel the given {@link ReadableByteChannel}
+     * @return a Publishable of the content of the given {@link ReadableByteChannel}
+     * @throws NullPointerException if the specified {@link ReadableByteChannel} is {@code null}
+     */
+    public static Publishable<ByteBuffer, IOException> read(ReadableByteChannel channel) {
+        return read(channel, ByteBufferPool.pool());
+    }
+
+    /**
+     * Return a Publishable of the content of the given {@link ReadableByteChannel} read from its current position
+     * into the given pool buffers, each emitted flipped, as full as a single read makes it.
+     *
+     * @param channel the given {@link ReadableByteChannel}, in the blocking mode
+     * @param pool    the given {@link ByteBufferPool}
+     * @return a Publishable of the content of the given {@link ReadableByteChannel}
+     * @throws NullPointerException if the specified {@link ReadableByteChannel} or {@link ByteBufferPool} is {@code null}
+     */
+    public static Publishable<ByteBuffer, IOException> read(ReadableByteChannel channel, ByteBufferPool pool) {
+        requireNonNull(channel); requireNonNull(pool);
+        return new ChannelSource<ByteBuffer>(subscriber -> subscriber.onSubscribe(new ReadSubscription(subscriber, channel, pool)));
+    }
+
+    /**
+     * Return a Publishable of the total number of bytes of the given source's buffers written to the given
+     * {@link WritableByteChannel}, with the {@link ByteBufferPool#pool() default pool} and batches of 16 buffers.
+     *
+     * @param source  the given source Publishable
+     * @param channel the given {@link WritableByteChannel}
+     * @return a Publishable of the total number of bytes written to the given {@link WritableByteChannel}
+     * @throws NullPointerException if the specified source Publishable or {@link WritableByteChannel} is {@code null}
+     */
+    public static Publishable<Long, IOException> write(Publishable<ByteBuffer, ? extends IOException> source,
+                                                       WritableByteChannel channel) {
+        return write(source, channel, 16, ByteBufferPool.pool());
+    }
+
+    /**
+     * Return a Publishable of the total number of bytes of the given source's buffers written to the given
+     * {@link WritableByteChannel}. The source is requested by the batches of the given size, each written by
+     * a single gathering write if the channel is a {@link GatheringByteChannel} once the batch is full or the
+     * source completes, on the thread delivering the buffers, the ones owned by the given pool released to it
+     * then, while any other buffer is left to the caller. The {@link IOException} of a write cancels the source.
+     *
+     * @param source    the given source Publishable
+     * @param channel   the given {@link WritableByteChannel}, in the blocking mode
+     * @param batchSize the given number of buffers written at once
+     * @param pool      the given {@link ByteBufferPool} to release the written buffers it owns to
+     * @return a Publishable of the total number of bytes written to the given {@link WritableByteChannel}
+     * @throws NullPointerException     if the specified source Publishable, {@link WritableByteChannel}
+     *                                  or {@link ByteBufferPool} is {@code null}
+     * @throws IllegalArgumentException if the specified batch size is not positive
+     */
+    public static Publishable<Long, IOException> write(Publishable<ByteBuffer, ? extends IOException> source,
+                                                       WritableByteChannel channel, int batchSize, ByteBufferPool pool) {
+        requireNonNull(source); requireNonNull(channel); requireNonNull(pool);
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        return new ChannelSource<Long>(subscriber -> source.subscribe(new WriteSubscriber(subscriber, channel, batchSize, pool)));
+    }
+
+
+    /**
+     * A {@link Publishable} of the {@link IOException} fault type, subscribing by the given function.
+     *
+     * @param <V> the type of item values
+     */
+    private static final class ChannelSource<V> implements Publishable<V, IOException> {
+
+        private final Consumer<CoreSubscriber<? super V>> subscribe;
+
+        ChannelSource(Consumer<CoreSubscriber<? super V>> subscribe) {
+            this.subscribe = subscribe;
+        }
+
+        @Override public void subscribe(CoreSubscriber<? super V> subscriber) { subscribe.accept(subscriber); }
+
+        @Override public Class<IOException> faultType() { return IOException.class; }
+    }
+
+    /**
+     * An {@link IndexedSubscription} emitting the slices of a file mapped a region at a time.
+     */
+    private static final class MapSubscription extends IndexedSubscription {
+
+        private static final long serialVersionUID = 4401378765392157094L;
+
+        private final CoreSubscriber<? super ByteBuffer> subscriber;
+        private final FileChannel channel;
+        private final long size;
+        private final int sliceSize;
+        private final long window;
+
+        private MappedByteBuffer region;
+        private long regionStart = -1;
+
+        MapSubscription(CoreSubscriber<? super ByteBuffer> subscriber, FileChannel channel, long size, int sliceSize) {
+            super(subscriber, (size + sliceSize - 1) / sliceSize);
+            this.subscriber = subscriber; this.channel = channel; this.size = size; this.sliceSize = sliceSize;
+            this.window = Math.max(sliceSize, MAP_WINDOW - MAP_WINDOW % sliceSize);
+        }
+
+        @Override protected void emit(long index) {
+            long position = index * sliceSize, start = position - position % window;
+            if (start != regionStart)
+                try { region = channel.map(READ_ONLY, start, Math.min(window, size - start)); regionStart = start; }
+                catch (IOException | RuntimeException e) {
+                    cancel(); subscriber.onError(e); return; }
+            int from = (int) (position - start), to = (int) Math.min(from + (long) sliceSize, region.capacity());
+            ByteBuffer slice = region.duplicate(); ((Buffer) slice).position(from); ((Buffer) slice).limit(to);
+            subscriber.onNext(slice.slice()); }
+    }
+
+    /**
+     * An {@link IndexedSubscription} emitting the buffers read from a channel until its end.
+     */
+    private static final class ReadSubscription extends IndexedSubscription {
+
+        private static final long serialVersionUID = -6209135946012584731L;
+
+        private final CoreSubscriber<? super ByteBuffer> subscriber;
+        private final ReadableByteChannel channel;
+        private final ByteBufferPool pool;
+
+        ReadSubscription(CoreSubscriber<? super ByteBuffer> subscriber, ReadableByteChannel channel, ByteBufferPool pool) {
+            super(subscriber, Long.MAX_VALUE);
+            this.subscriber = subscriber; this.channel = channel; this.pool = pool;
+        }
+
+        @Override protected void emit(long index) {
+            ByteBuffer buffer = pool.acquire(); int read;
+            try { do read = channel.read(buffer); while (read == 0); }
+            catch (IOException | RuntimeException e) {
+                pool.release(buffer); cancel(); subscriber.onError(e); return; }
+            if (read < 0) {
+                pool.release(buffer); cancel(); subscriber.onComplete(); return; }
+            ((Buffer) buffer).flip(); subscriber.onNext(buffer); }
+    }
+
+    /**
+     * A subscriber writing the buffers to a channel in batches, emitting the total number of bytes written.
+     */
+    private static final class WriteSubscriber extends Operators.MonoSubscriber<ByteBuffer, Long> {
+
+        private final WritableByteChannel channel;
+        private final ByteBufferPool pool;
+        private final ByteBuffer[] batch;
+
+        private Subscription subscription;
+        private int size;
+        private long written;
+        private boolean done;
+
+        WriteSubscriber(CoreSubscriber<? super Long> actual, WritableByteChannel channel, int batchSize, ByteBufferPool pool) {
+            super(actual); this.channel = channel; this.pool = pool; this.batch = new ByteBuffer[batchSize];
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            if (Operators.validate(this.subscription, subscription)) {
+                this.subscription = subscription;
+                actual.onSubscribe(this); subscription.request(batch.length); } }
+
+        @Override public void onNext(ByteBuffer buffer) {
+            if (done) {
+                Operators.onNextDropped(buffer, actual.currentContext()); return; }
+            batch[size++] = buffer;
+            if (size == batch.length && flush()) subscription.request(batch.length); }
+
+        @Override public void onError(Throwable error) {
+            if (done) {
+                Operators.onErrorDropped(error, actual.currentContext()); return; }
+            done = true; release(); actual.onError(error); }
+
+        @Override public void onComplete() {
+            if (done) return;
+            if (flush()) {
+                done = true; complete(written); } }
+
+        @Override public void cancel() {
+            super.cancel(); subscription.cancel(); }
+
+        /**
+         * Write the batched buffers fully and release them, failing with the exception of a write.
+         *
+         * @return {@code true} if the buffers are written
+         */
+        private boolean flush() {
+            try {
+                if (channel instanceof GatheringByteChannel) {
+                    GatheringByteChannel gathering = (GatheringByteChannel) channel;
+                    for (int offset = 0; offset < size; ) {
+                        written += gathering.write(batch, offset, size - offset);
+                        while (offset < size && !batch[offset].hasRemaining()) offset++; }
+                } else for (int i = 0; i < size; i++)
+                    while (batch[i].hasRemaining()) written += channel.write(batch[i]);
+            } catch (IOException | RuntimeException e) {
+                done = true; subscription.cancel(); release(); actual.onError(e); return false; }
+            release(); return true;
+        }
+
+        /**
+         * Release the batched buffers owned by the pool to it, leaving the others to the caller.
+         */
+        private void release() {
+            for (int i = 0; i < size; i++) {
+                pool.release(batch[i]); batch[i] = null; }
+            size = 0;
+        }
+    }
+}
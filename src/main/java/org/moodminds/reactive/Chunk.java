@@ -0,0 +1,85 @@
+package org.moodminds.reactive;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A reusable chunk of consumed items, a read-only {@link java.util.List} view over the recycled buffer
+ * of the subscription. The chunk is valid only during the chunk consumer call and should be copied
+ * to retain the items beyond it.
+ *
+ * @param <V> the type of items
+ */
+public final class Chunk<V> extends AbstractList<V> implements RandomAccess {
+
+    /**
+     * The items buffer.
+     */
+    private final Object[] items;
+
+    /**
+     * The number of the buffered items.
+     */
+    private int size;
+
+    /**
+     * Construct the object with the given capacity.
+     *
+     * @param capacity the given capacity
+     */
+    Chunk(int capacity) {
+        this.items = new Object[capacity];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return (V) items[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the maximum number of items this Chunk holds.
+     *
+     * @return the maximum number of items this Chunk holds
+     */
+    public int capacity() {
+        return items.length;
+    }
+
+    /**
+     * Append the given item, returning {@code true} if this Chunk is full after that.
+     *
+     * @param item the given item
+     * @return {@code true} if this Chunk is full after that
+     */
+    boolean append(V item) {
+        items[size++] = item; return size == items.length;
+    }
+
+    /**
+     * Release the buffered items for the reuse of this Chunk.
+     */
+    void recycle() {
+        for (int i = 0; i < size; i++) items[i] = null;
+        size = 0;
+    }
+}
@@ -0,0 +1,121 @@
+package org.moodminds.reactive;
+
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.moodminds.function.Executable1Throwing1.idle;
+import static reactor.core.scheduler.Schedulers.parallel;
+
+/**
+ * A {@link ConsumerSubscriber} collecting the items into a recycled {@link Chunk} delivered to the given
+ * chunk consumer once full, on the optional time limit since its first item, and before the terminal event.
+ * Two chunks of items are requested initially, and one more chunk once a chunk of items is consumed.
+ *
+ * @param <V> the type of items to consume
+ * @param <E> the type of exceptions to consume
+ */
+class ChunkSubscriber<V, E extends Exception> extends ConsumerSubscriber<V, E> implements Disposable {
+
+    private final Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer;
+    private final Chunk<V> chunk;
+    private final long maxTime;
+    private final Scheduler scheduler;
+
+    private Disposable timer;
+    private long generation;
+    private volatile boolean disposed;
+
+    ChunkSubscriber(Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer,
+                    Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                    Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                    ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                    Class<E> faultType, int maxSize, Duration maxTime, Context context) {
+        super(idle(), faultConsumer, errorConsumer, completeConsumer, faultType, demand(maxSize), context);
+        this.chunkConsumer = chunkConsumer; this.chunk = new Chunk<>(maxSize);
+        this.maxTime = maxTime != null ? maxTime.toNanos() : 0;
+        this.scheduler = this.maxTime > 0 ? parallel() : null;
+    }
+
+    @Override public void onSubscribe(Subscription subscription) {
+        if (disposed) subscription.cancel();
+        else super.onSubscribe(subscription); }
+
+    @Override public void onNext(V item) {
+        if (scheduler == null) {
+            if (chunk.append(item)) flush(); }
+        else synchronized (this) {
+            if (chunk.append(item)) flush();
+            else if (chunk.size() == 1) schedule(); }
+        consumed(); }
+
+    @Override public void onError(E error) { flushTerminal(); super.onError(error); }
+
+    @Override public void onError(Throwable error) { flushTerminal(); super.onError(error); }
+
+    @Override public void onComplete() { flushTerminal(); super.onComplete(); }
+
+    @Override public void dispose() {
+        disposed = true; Subscription subscription = this.subscription;
+        if (subscription != null) subscription.cancel();
+        if (scheduler != null) synchronized (this) { cancelTimer(); } }
+
+    @Override public boolean isDisposed() { return disposed; }
+
+    /**
+     * Schedule the time limited flush of the current chunk.
+     */
+    private void schedule() {
+        long generation = this.generation;
+        timer = scheduler.schedule(() -> {
+            synchronized (this) {
+                if (generation == this.generation && !disposed) flush(); }
+        }, maxTime, NANOSECONDS);
+    }
+
+    /**
+     * Deliver the current chunk to the chunk consumer and recycle it.
+     */
+    private void flush() {
+        generation++; cancelTimer();
+        try { exec(chunkConsumer, chunk); }
+        finally { chunk.recycle(); }
+    }
+
+    /**
+     * Deliver the remaining items before the terminal event.
+     */
+    private void flushTerminal() {
+        if (scheduler == null) {
+            if (chunk.size() > 0) flush(); }
+        else synchronized (this) {
+            if (chunk.size() > 0) flush(); }
+    }
+
+    /**
+     * Return the {@link Demand} of two chunks of the given maximum size, replenished by one chunk.
+     *
+     * @param maxSize the given maximum size of a {@link Chunk}
+     * @return the {@link Demand} of two chunks of the given maximum size
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    private static Demand demand(int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive: " + maxSize);
+        return Demand.prefetch(maxSize > Integer.MAX_VALUE >> 1 ? maxSize : maxSize << 1, maxSize);
+    }
+
+    /**
+     * Cancel the pending time limited flush, if any.
+     */
+    private void cancelTimer() {
+        if (timer != null) {
+            timer.dispose(); timer = null; }
+    }
+}
@@ -0,0 +1,86 @@
+package org.moodminds.reactive;
+
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import org.moodminds.reactive.context.ContextPropagation;
+import org.moodminds.reactive.context.ContextPropagation.Scope;
+import org.reactivestreams.Subscription;
+import reactor.util.context.Context;
+
+/**
+ * A {@link Publishable.Subscriber} delegating the events to the given consumers,
+ * requesting items by the given {@link Demand}. The {@link ContextPropagation} {@link Scope}, if any,
+ * is captured once and opened around each consumer call.
+ *
+ * @param <V> the type of items to consume
+ * @param <E> the type of exceptions to consume
+ */
+class ConsumerSubscriber<V, E extends Exception> implements Publishable.Subscriber<V, E> {
+
+    private final Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer;
+    private final Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer;
+    private final Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer;
+    private final ExecutableThrowing1<? extends RuntimeException> completeConsumer;
+    private final Class<E> faultType;
+    private final Demand demand;
+    private final Context context;
+    final Scope scope;
+
+    volatile Subscription subscription;
+    private long consumed;
+
+    ConsumerSubscriber(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                       Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                       Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                       ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                       Class<E> faultType, Demand demand, Context context) {
+        this.itemConsumer = itemConsumer; this.faultConsumer = faultConsumer;
+        this.errorConsumer = errorConsumer; this.completeConsumer = completeConsumer;
+        this.faultType = faultType; this.demand = demand; this.context = context;
+        this.scope = ContextPropagation.scope(context);
+    }
+
+    @Override public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription; subscription.request(demand.prefetch()); }
+
+    @Override public void onNext(V item) {
+        exec(itemConsumer, item); consumed(); }
+
+    @Override public void onError(E error) { exec(faultConsumer, error); }
+
+    @Override @SuppressWarnings("unchecked") public void onError(Throwable error) {
+        if (faultType != null) {
+            if (faultType.isInstance(error)) exec(faultConsumer, (E) error);
+            else exec(errorConsumer, error); }
+        else try { exec(faultConsumer, (E) error); }
+        catch (ClassCastException e) { exec(errorConsumer, error); } }
+
+    @Override public void onComplete() {
+        if (scope == null) completeConsumer.exec();
+        else { long opened = scope.open();
+            try { completeConsumer.exec(); } finally { scope.close(opened); } } }
+
+    @Override public Context currentContext() { return context; }
+
+    /**
+     * Call the given consumer with the given value within the {@link Scope}, if any.
+     *
+     * @param consumer the given consumer
+     * @param value    the given value
+     * @param <T>      the type of the value
+     */
+    final <T> void exec(Executable1Throwing1<? super T, ? extends RuntimeException> consumer, T value) {
+        if (scope == null) consumer.exec(value);
+        else { long opened = scope.open();
+            try { consumer.exec(value); } finally { scope.close(opened); } }
+    }
+
+    /**
+     * Account the consumed item, replenishing the {@link Demand} if due.
+     */
+    final void consumed() {
+        long replenish = demand.replenish();
+        if (replenish != 0 && ++consumed == replenish) {
+            consumed = 0; subscription.request(replenish); }
+    }
+}
@@ -0,0 +1,107 @@
+package org.moodminds.reactive;
+
+/**
+ * A demand strategy of the events consumers subscription: either unbounded, or a bounded prefetch
+ * replenished by a batch once the given number of items is consumed.
+ */
+public final class Demand {
+
+    /**
+     * The unbounded Demand singleton.
+     */
+    private static final Demand UNBOUNDED = new Demand(Long.MAX_VALUE, 0);
+
+    /**
+     * The number of items requested initially.
+     */
+    private final long prefetch;
+
+    /**
+     * The number of consumed items to request again, {@code 0} if never.
+     */
+    private final long replenish;
+
+    /**
+     * Construct the object with the given prefetch and replenish numbers.
+     *
+     * @param prefetch  the given number of items requested initially
+     * @param replenish the given number of consumed items to request again
+     */
+    private Demand(long prefetch, long replenish) {
+        this.prefetch = prefetch; this.replenish = replenish;
+    }
+
+    /**
+     * Return the number of items requested initially.
+     *
+     * @return the number of items requested initially
+     */
+    public long prefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Return the number of consumed items to request again, {@code 0} if the demand is unbounded.
+     *
+     * @return the number of consumed items to request again, {@code 0} if the demand is unbounded
+     */
+    public long replenish() {
+        return replenish;
+    }
+
+    /**
+     * Check if this Demand is unbounded.
+     *
+     * @return {@code true} if this Demand is unbounded
+     */
+    public boolean isUnbounded() {
+        return replenish == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return isUnbounded() ? "Demand{unbounded}" : "Demand{prefetch=" + prefetch + ", replenish=" + replenish + "}";
+    }
+
+    /**
+     * Return the unbounded Demand, requesting {@code Long.MAX_VALUE} items at once.
+     *
+     * @return the unbounded Demand
+     */
+    public static Demand unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Return a Demand of the given prefetch, replenished once 75% of it is consumed.
+     *
+     * @param prefetch the given number of items requested initially
+     * @return a Demand of the given prefetch
+     * @throws IllegalArgumentException if the prefetch specified is not positive
+     */
+    public static Demand prefetch(int prefetch) {
+        return prefetch(prefetch, prefetch - (prefetch >> 2));
+    }
+
+    /**
+     * Return a Demand of the given prefetch, replenished once the given number of items is consumed.
+     *
+     * @param prefetch  the given number of items requested initially
+     * @param replenish the given number of consumed items to request again
+     * @return a Demand of the given prefetch and replenish numbers
+     * @throws IllegalArgumentException if the prefetch specified is not positive or the replenish
+     *                                  specified is not positive or greater than the prefetch
+     */
+    public static Demand prefetch(int prefetch, int replenish) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("Prefetch must be positive: " + prefetch);
+        if (replenish <= 0 || replenish > prefetch)
+            throw new IllegalArgumentException("Replenish must be positive and not greater than prefetch: " + replenish);
+        return new Demand(prefetch, replenish);
+    }
+}
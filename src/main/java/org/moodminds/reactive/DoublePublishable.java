@@ -0,0 +1,222 @@
+package org.moodminds.reactive;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import org.reactivestreams.Publisher;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.function.DoubleConsumer;
+
+import static java.util.Objects.requireNonNull;
+import static org.moodminds.function.Executable1Throwing1.idle;
+import static org.moodminds.reactive.context.ContainerContext.context;
+import static org.moodminds.reactive.context.KeyValueContext.context;
+
+/**
+ * A primitive {@code double} specialization of the {@link Publishable} interface, emitting the items
+ * to the {@link Subscriber DoublePublishable.Subscriber} without boxing.
+ *
+ * @param <E> the type of potential exceptions
+ */
+public interface DoublePublishable<E extends Exception> extends Publishable<Double, E> {
+
+    /**
+     * Subscribe the given {@link Subscriber DoublePublishable.Subscriber} to this DoublePublishable.
+     *
+     * @param subscriber the given {@link Subscriber DoublePublishable.Subscriber}
+     */
+    void subscribe(Subscriber<? super E> subscriber);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param subscriber {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default void subscribe(CoreSubscriber<? super Double> subscriber) {
+        if (subscriber instanceof Subscriber)
+            subscribe((Subscriber<? super E>) subscriber);
+        else subscribe(boxing(subscriber));
+    }
+
+    /**
+     * Subscribe to this DoublePublishable with the specified primitive item consumer and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer the given primitive item consumer
+     * @param ctx          the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if the specified item consumer is {@code null}
+     */
+    default void subscribeDouble(DoubleConsumer itemConsumer, KeyValue<?, ?>... ctx) {
+        subscribeDouble(itemConsumer, idle(), idle(), ExecutableThrowing1.idle(), ctx);
+    }
+
+    /**
+     * Subscribe to this DoublePublishable with the specified primitive item consumer and {@link Association context}.
+     *
+     * @param itemConsumer the given primitive item consumer
+     * @param ctx          the given {@link Association context}
+     * @throws NullPointerException if the specified item consumer or {@link Association context} is {@code null}
+     */
+    default void subscribeDouble(DoubleConsumer itemConsumer, Association<?, ?, ?> ctx) {
+        subscribeDouble(itemConsumer, idle(), idle(), ExecutableThrowing1.idle(), ctx);
+    }
+
+    /**
+     * Subscribe to this DoublePublishable with the specified primitive item consumer, events consumers
+     * and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param ctx              the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if any of the specified events consumers is {@code null}
+     */
+    default void subscribeDouble(DoubleConsumer itemConsumer,
+                                 Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                 Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                 ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                 KeyValue<?, ?>... ctx) {
+        subscribe(doubleSubscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), Demand.unbounded(), context(ctx)));
+    }
+
+    /**
+     * Subscribe to this DoublePublishable with the specified primitive item consumer, events consumers
+     * and {@link Association context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param ctx              the given {@link Association context}
+     * @throws NullPointerException if any of the specified events consumers or {@link Association context} is {@code null}
+     */
+    default void subscribeDouble(DoubleConsumer itemConsumer,
+                                 Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                 Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                 ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                 Association<?, ?, ?> ctx) {
+        subscribe(doubleSubscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), Demand.unbounded(), context(ctx)));
+    }
+
+    /**
+     * Return a {@link FluxPublishable} of the boxed items of this DoublePublishable.
+     *
+     * @return a {@link FluxPublishable} of the boxed items of this DoublePublishable
+     */
+    default FluxPublishable<Double, E> flux() {
+        Class<E> faultType = faultType(); Flux<Double> flux = Flux.from(this);
+        return faultType != null ? FluxPublishable.flux(flux, faultType) : FluxPublishable.flux(flux);
+    }
+
+
+    /**
+     * A {@link Publishable.Subscriber} consuming the primitive {@code double} items without boxing.
+     *
+     * @param <E> the type of exceptions to consume
+     */
+    interface Subscriber<E extends Exception> extends Publishable.Subscriber<Double, E> {
+
+        /**
+         * Consume the given primitive item.
+         *
+         * @param item the given primitive item
+         */
+        void onNextDouble(double item);
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param item {@inheritDoc}
+         */
+        @Override
+        default void onNext(Double item) {
+            onNextDouble(item);
+        }
+    }
+
+
+    /**
+     * Return a {@link Subscriber DoublePublishable.Subscriber} by the given primitive item consumer, events consumers,
+     * fault type, {@link Demand} and {@link Context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param demand           the given {@link Demand} to request items by
+     * @param context          the given {@link Context}
+     * @param <E>              the type of exceptions to consume
+     * @return a {@link Subscriber DoublePublishable.Subscriber} by the given events consumers, fault type,
+     * {@link Demand} and {@link Context}
+     * @throws NullPointerException is any of the specified events consumers, the {@link Demand}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <E extends Exception> Subscriber<E> doubleSubscriber(DoubleConsumer itemConsumer,
+                                                                Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                                Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                                ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                                Class<E> faultType, Demand demand, Context context) {
+        requireNonNull(itemConsumer); requireNonNull(errorConsumer); requireNonNull(faultConsumer);
+        requireNonNull(completeConsumer); requireNonNull(demand); requireNonNull(context);
+        return new DoubleConsumerSubscriber<>(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, demand, context);
+    }
+
+    /**
+     * Return a {@link Subscriber DoublePublishable.Subscriber} boxing the items to the given {@link CoreSubscriber}.
+     *
+     * @param subscriber the given {@link CoreSubscriber}
+     * @param <E>        the type of exceptions to consume
+     * @return a {@link Subscriber DoublePublishable.Subscriber} boxing the items to the given {@link CoreSubscriber}
+     * @throws NullPointerException is the specified {@link CoreSubscriber} is {@code null}
+     */
+    static <E extends Exception> Subscriber<E> boxing(CoreSubscriber<? super Double> subscriber) {
+        requireNonNull(subscriber); return new Subscriber<E>() {
+            @Override public void onSubscribe(org.reactivestreams.Subscription s) { subscriber.onSubscribe(s); }
+            @Override public void onNextDouble(double item) { subscriber.onNext(item); }
+            @Override public void onNext(Double item) { subscriber.onNext(item); }
+            @Override public void onError(E error) { subscriber.onError(error); }
+            @Override public void onError(Throwable error) { subscriber.onError(error); }
+            @Override public void onComplete() { subscriber.onComplete(); }
+            @Override public Context currentContext() { return subscriber.currentContext(); }
+        };
+    }
+
+    /**
+     * Return a DoublePublishable emitting the given items.
+     *
+     * @param items the given items
+     * @param <E>   the type of potential exceptions
+     * @return a DoublePublishable emitting the given items
+     * @throws NullPointerException if the specified items array is {@code null}
+     */
+    static <E extends Exception> DoublePublishable<E> fromArray(double... items) {
+        requireNonNull(items); return subscriber -> {
+            if (items.length == 0) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new IndexedSubscription(subscriber, items.length) {
+                @Override protected void emit(long index) { subscriber.onNextDouble(items[(int) index]); } }); };
+    }
+
+    /**
+     * Return a DoublePublishable of the given {@link Publisher} of the boxed items, unboxing them to
+     * the {@link Subscriber DoublePublishable.Subscriber}, or the {@link Publisher} itself if it is a DoublePublishable.
+     *
+     * @param publisher the given {@link Publisher} of the boxed items
+     * @param <E>       the type of potential exceptions
+     * @return a DoublePublishable of the given {@link Publisher} of the boxed items
+     * @throws NullPointerException if the specified {@link Publisher} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Exception> DoublePublishable<E> doubles(Publisher<Double> publisher) {
+        if (requireNonNull(publisher) instanceof DoublePublishable)
+            return (DoublePublishable<E>) publisher;
+        return publisher::subscribe;
+    }
+}
@@ -0,0 +1,339 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Operators;
+import reactor.util.concurrent.Queues;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A multi-producer emitter of the signals to the single subscriber of its {@link #publishable() Publishable},
+ * safe to call concurrently from many threads. The items are handed off through a lock-free multi-producer
+ * single-consumer queue, drained to the subscriber by whichever thread gets the drain ticket, and buffered
+ * until the subscriber demands them, up to the capacity handled by the given {@link Overflow} strategy.
+ * <p>
+ * No emission method throws: each of them reports its {@link Result} instead.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+public final class Emitter<V, E extends Exception> {
+
+    /**
+     * The terminal marker of the completion.
+     */
+    private static final Throwable COMPLETE = Exceptions.TERMINATED;
+
+    /**
+     * The strategy of handling an item emitted while the buffer is full.
+     */
+    public enum Overflow {
+
+        /**
+         * Buffer all the items, ignoring the capacity.
+         */
+        BUFFER,
+
+        /**
+         * Drop the item emitted.
+         */
+        DROP,
+
+        /**
+         * Keep the item emitted in place of the previous overflowing one, to deliver it after the buffer.
+         */
+        LATEST,
+
+        /**
+         * Terminate the subscription with an overflow error at once, discarding the buffered items.
+         */
+        FAIL
+    }
+
+    /**
+     * The result of an emission.
+     */
+    public enum Result {
+
+        /**
+         * The signal is accepted.
+         */
+        OK,
+
+        /**
+         * The item is dropped by the {@link Overflow#DROP} or {@link Overflow#LATEST} strategy.
+         */
+        DROPPED,
+
+        /**
+         * The item overflowed the buffer, failing the subscription by the {@link Overflow#FAIL} strategy.
+         */
+        FAIL_OVERFLOW,
+
+        /**
+         * The Emitter is terminated already.
+         */
+        FAIL_TERMINATED,
+
+        /**
+         * The subscription is cancelled.
+         */
+        FAIL_CANCELLED;
+
+        /**
+         * Check if the signal is accepted.
+         *
+         * @return {@code true} if the signal is accepted
+         */
+        public boolean isSuccess() {
+            return this == OK;
+        }
+    }
+
+    private final Queue<V> queue = Queues.<V>unboundedMultiproducer().get();
+    private final AtomicReference<V> latest = new AtomicReference<>();
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicInteger producers = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<Throwable> terminal = new AtomicReference<>();
+    private final AtomicReference<CoreSubscriber<? super V>> subscriber = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+
+    private final Overflow overflow;
+    private final int capacity;
+    private final Class<E> faultType;
+
+    private volatile boolean done;
+    private volatile boolean discard;
+    private volatile boolean cancelled;
+
+    /**
+     * The flag of the terminal signal delivered, accessed by the draining thread only.
+     */
+    private boolean delivered;
+
+    private Emitter(Overflow overflow, int capacity, Class<E> faultType) {
+        this.overflow = overflow; this.capacity = capacity; this.faultType = faultType;
+    }
+
+    /**
+     * Emit the given item. The terminal signal waits for the items being emitted concurrently
+     * and accepted, so that an accepted item is delivered before it, unless failed by the {@link Overflow#FAIL}.
+     *
+     * @param item the given item
+     * @return the {@link Result} of the emission
+     * @throws NullPointerException if the specified item is {@code null}
+     */
+    public Result next(V item) {
+        requireNonNull(item);
+        if (cancelled) return Result.FAIL_CANCELLED;
+        producers.incrementAndGet();
+        try {
+            if (done) return Result.FAIL_TERMINATED;
+            long buffered = size.getAndIncrement();
+            if (overflow != Overflow.BUFFER && (buffered >= capacity || latest.get() != null)) {
+                size.decrementAndGet();
+                switch (overflow) {
+                    case DROP: return Result.DROPPED;
+                    case LATEST: return latest.getAndSet(item) != null ? Result.DROPPED : Result.OK;
+                    default: return terminate(Exceptions.failWithOverflow("The Emitter buffer of "
+                            + capacity + " items is full"), true) ? Result.FAIL_OVERFLOW : Result.FAIL_TERMINATED; } }
+            queue.offer(item); return Result.OK;
+        } finally {
+            producers.decrementAndGet(); drain(); }
+    }
+
+    /**
+     * Terminate with the given {@link E} fault.
+     *
+     * @param fault the given {@link E} fault
+     * @return the {@link Result} of the emission
+     * @throws NullPointerException if the specified fault is {@code null}
+     */
+    public Result fault(E fault) {
+        return error(fault);
+    }
+
+    /**
+     * Terminate with the given error.
+     *
+     * @param error the given error
+     * @return the {@link Result} of the emission
+     * @throws NullPointerException if the specified error is {@code null}
+     */
+    public Result error(Throwable error) {
+        requireNonNull(error);
+        if (cancelled) return Result.FAIL_CANCELLED;
+        return terminate(error, false) ? Result.OK : Result.FAIL_TERMINATED;
+    }
+
+    /**
+     * Terminate with the completion.
+     *
+     * @return the {@link Result} of the emission
+     */
+    public Result complete() {
+        if (cancelled) return Result.FAIL_CANCELLED;
+        return terminate(null, false) ? Result.OK : Result.FAIL_TERMINATED;
+    }
+
+    /**
+     * Return the number of items buffered, not delivered yet.
+     *
+     * @return the number of items buffered, not delivered yet
+     */
+    public long buffered() {
+        return size.get() + (latest.get() != null ? 1 : 0);
+    }
+
+    /**
+     * Return the Publishable of the signals of this Emitter, allowing a single subscriber only.
+     *
+     * @return the Publishable of the signals of this Emitter
+     */
+    public Publishable<V, E> publishable() {
+        return new Publishable<V, E>() {
+            @Override public void subscribe(CoreSubscriber<? super V> subscriber) { Emitter.this.subscribe(subscriber); }
+            @Override public Class<E> faultType() { return faultType; }
+        };
+    }
+
+    /**
+     * Return an Emitter buffering all the items until demanded.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     * @return an Emitter buffering all the items until demanded
+     */
+    public static <V, E extends Exception> Emitter<V, E> emitter() {
+        return new Emitter<>(Overflow.BUFFER, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Return an Emitter buffering all the items until demanded, of the given type of the {@link E} exceptions.
+     *
+     * @param faultType the given type of the {@link E} exceptions
+     * @param <V>       the type of item values
+     * @param <E>       the type of potential exceptions
+     * @return an Emitter buffering all the items until demanded
+     * @throws NullPointerException if the specified type is {@code null}
+     */
+    public static <V, E extends Exception> Emitter<V, E> emitter(Class<E> faultType) {
+        return new Emitter<>(Overflow.BUFFER, Integer.MAX_VALUE, requireNonNull(faultType));
+    }
+
+    /**
+     * Return an Emitter buffering up to the given number of items until demanded,
+     * handling the overflowing ones by the given {@link Overflow} strategy.
+     *
+     * @param overflow the given {@link Overflow} strategy
+     * @param capacity the given maximum number of items to buffer
+     * @param <V>      the type of item values
+     * @param <E>      the type of potential exceptions
+     * @return an Emitter buffering up to the given number of items
+     * @throws NullPointerException     if the specified {@link Overflow} strategy is {@code null}
+     * @throws IllegalArgumentException if the specified capacity is not positive
+     */
+    public static <V, E extends Exception> Emitter<V, E> emitter(Overflow overflow, int capacity) {
+        return emitter(overflow, capacity, null);
+    }
+
+    /**
+     * Return an Emitter buffering up to the given number of items until demanded, handling the overflowing
+     * ones by the given {@link Overflow} strategy, of the given type of the {@link E} exceptions.
+     *
+     * @param overflow  the given {@link Overflow} strategy
+     * @param capacity  the given maximum number of items to buffer
+     * @param faultType the given type of the {@link E} exceptions, or {@code null} if unknown
+     * @param <V>       the type of item values
+     * @param <E>       the type of potential exceptions
+     * @return an Emitter buffering up to the given number of items
+     * @throws NullPointerException     if the specified {@link Overflow} strategy is {@code null}
+     * @throws IllegalArgumentException if the specified capacity is not positive
+     */
+    public static <V, E extends Exception> Emitter<V, E> emitter(Overflow overflow, int capacity, Class<E> faultType) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        return new Emitter<>(requireNonNull(overflow), capacity, faultType);
+    }
+
+    private void subscribe(CoreSubscriber<? super V> subscriber) {
+        if (!this.subscriber.compareAndSet(null, subscriber)) {
+            Operators.error(subscriber, new IllegalStateException("Emitter allows only a single Subscriber")); return; }
+        subscriber.onSubscribe(new Subscription() {
+            @Override public void request(long n) {
+                if (Operators.validate(n)) {
+                    long current; do {
+                        if ((current = requested.get()) == Long.MAX_VALUE) break;
+                    } while (!requested.compareAndSet(current, Operators.addCap(current, n)));
+                    drain(); } }
+            @Override public void cancel() {
+                cancelled = true; drain(); }
+        });
+        drain();
+    }
+
+    /**
+     * Set the given terminal error, or the completion if {@code null}, if not terminated yet,
+     * either after the buffered items or at once discarding them.
+     *
+     * @param error   the given terminal error, or {@code null} for the completion
+     * @param discard whether to discard the buffered items
+     * @return {@code true} if not terminated yet
+     */
+    private boolean terminate(Throwable error, boolean discard) {
+        if (done || !terminal.compareAndSet(null, error != null ? error : COMPLETE))
+            return false;
+        this.discard = discard; done = true; drain();
+        return true;
+    }
+
+    /**
+     * Deliver the buffered items to the subscriber while there is a demand, then the terminal signal
+     * once no item is being emitted; entered by a single thread at a time, the others just leaving
+     * the missed work to it.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        for (;;) {
+            CoreSubscriber<? super V> subscriber = this.subscriber.get();
+            if (delivered) clear();
+            else if (subscriber != null) {
+                long requested = this.requested.get(), emitted = 0;
+                for (;;) {
+                    if (cancelled) {
+                        clear(); break; }
+                    boolean done = this.done, discard = done && this.discard;
+                    if (discard) clear();
+                    boolean idle = done && producers.get() == 0, empty = queue.isEmpty() && latest.get() == null;
+                    if (discard || idle && empty) {
+                        Throwable error = terminal.get(); delivered = true;
+                        if (error == COMPLETE) subscriber.onComplete();
+                        else subscriber.onError(error);
+                        break; }
+                    if (empty || emitted == requested) break;
+                    V item = queue.poll();
+                    if (item != null) size.decrementAndGet();
+                    else item = latest.getAndSet(null);
+                    subscriber.onNext(item); emitted++; }
+                if (emitted != 0 && requested != Long.MAX_VALUE)
+                    this.requested.addAndGet(-emitted); }
+            if ((missed = wip.addAndGet(-missed)) == 0) return;
+        }
+    }
+
+    /**
+     * Discard the buffered items.
+     */
+    private void clear() {
+        queue.clear(); latest.set(null); size.set(0);
+    }
+}
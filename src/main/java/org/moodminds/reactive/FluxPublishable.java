@@ -4,26 +4,42 @@ import org.moodminds.function.Executable;
 import org.moodminds.function.Executable1;
 import reactor.core.CoreSubscriber;
 import reactor.core.Disposable;
+import reactor.core.Fuseable;
+import reactor.core.Scannable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxOperator;
 import reactor.util.context.Context;
 
+import java.time.Duration;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
+import static reactor.core.Exceptions.errorCallbackNotImplemented;
+import static reactor.core.publisher.Operators.onErrorDropped;
 
 /**
  * A {@link Flux} implementation of the {@link Publishable} interface.
+ * <p>
+ * The wrapper is transparent for the Reactor's operators: it is {@link Scannable} through the wrapped
+ * {@link Flux}, and the {@link #flux(Flux)} factories keep its {@link Fuseable}, {@link Callable}
+ * and {@link Fuseable.ScalarCallable} nature, so that the macro- and micro-fusion are retained.
  *
  * @param <V> the type of item values
  * @param <E> the type of potential exceptions
  */
-public class FluxPublishable<V, E extends Exception> extends Flux<V> implements Publishable<V, E> {
+public class FluxPublishable<V, E extends Exception> extends Flux<V> implements Publishable<V, E>, Scannable {
 
     /**
      * A wrapped {@link Flux} holder field.
      */
     private final Flux<V> flux;
 
+    /**
+     * A type of the {@link E} exceptions holder field, {@code null} if unknown.
+     */
+    private final Class<E> faultType;
+
     /**
      * Construct the object with the given {@link Flux} instance.
      *
@@ -31,7 +47,18 @@ public class FluxPublishable<V, E extends Exception> extends Flux<V> implements
      * @throws NullPointerException if the {@link Flux} specified is {@code null}
      */
     protected FluxPublishable(Flux<V> flux) {
-        this.flux = requireNonNull(flux);
+        this(flux, null);
+    }
+
+    /**
+     * Construct the object with the given {@link Flux} instance and type of the {@link E} exceptions.
+     *
+     * @param flux      the given {@link Flux} instance
+     * @param faultType the given type of the {@link E} exceptions, or {@code null} if unknown
+     * @throws NullPointerException if the {@link Flux} specified is {@code null}
+     */
+    protected FluxPublishable(Flux<V> flux, Class<E> faultType) {
+        this.flux = requireNonNull(flux); this.faultType = faultType;
     }
 
     /**
@@ -44,6 +71,53 @@ public class FluxPublishable<V, E extends Exception> extends Flux<V> implements
         flux.subscribe(subscriber);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Class<E> faultType() {
+        return faultType;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Object scanUnsafe(Attr key) {
+        return key == Attr.PARENT ? flux : Scannable.from(flux).scanUnsafe(key);
+    }
+
+    /**
+     * Return a FluxPublishable recording the signals of its subscriptions into the {@link SignalMetrics}
+     * of the Reactor's {@link #name() name} of this {@link Flux}, as given by the {@code name(String)} operator.
+     *
+     * @return a FluxPublishable recording the signals of its subscriptions
+     */
+    public FluxPublishable<V, E> instrument() {
+        return instrument(name());
+    }
+
+    /**
+     * Return a FluxPublishable recording the signals of its subscriptions into the {@link SignalMetrics}
+     * of the given name. The {@link Flux}s not instrumented record nothing.
+     *
+     * @param name the given name of the {@link SignalMetrics}
+     * @return a FluxPublishable recording the signals of its subscriptions
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    public FluxPublishable<V, E> instrument(String name) {
+        SignalMetrics metrics = SignalMetrics.metrics(name);
+        return wrap(new FluxOperator<V, V>(flux) {
+            @Override public void subscribe(CoreSubscriber<? super V> actual) {
+                source.subscribe(new MeteredSubscriber<>(actual, metrics, faultType)); }
+        }, faultType);
+    }
+
     /**
      * Subscribe a {@link Executable1} to this {@link Flux}, allowing it to consume all the
      * elements in the sequence. This subscription requests an unbounded demand ({@code Long.MAX_VALUE}).
@@ -100,6 +174,44 @@ public class FluxPublishable<V, E extends Exception> extends Flux<V> implements
         return subscribe((Consumer<? super V>) consumer, errorConsumer, completeConsumer, initialContext);
     }
 
+    /**
+     * Subscribe a {@link Chunk} consumer to this {@link Flux}, delivering the items in recycled chunks of the given
+     * maximum size, flushed on the given time limit since the first item of a chunk and before the completion.
+     * This subscription requests a bounded demand of two chunks ({@code 2 * maxSize}) initially, and one more chunk
+     * ({@code maxSize}) once a chunk of items is consumed.
+     *
+     * @param consumer the consumer to be invoked on each chunk of values
+     * @param maxSize the maximum size of a chunk
+     * @param maxTime the time limit of a chunk, or {@code null} if unlimited
+     *
+     * @return a new {@link Disposable} that can be used to cancel the underlying {@link org.reactivestreams.Subscription}
+     */
+    public Disposable subscribeChunked(Executable1<? super Chunk<V>> consumer, int maxSize, Duration maxTime) {
+        return subscribeChunked(consumer, error -> onErrorDropped(errorCallbackNotImplemented(error), Context.empty()), () -> {}, maxSize, maxTime);
+    }
+
+    /**
+     * Subscribe a {@link Chunk} consumer to this {@link Flux}, delivering the items in recycled chunks of the given
+     * maximum size, flushed on the given time limit since the first item of a chunk and before the terminal signal,
+     * handling errors and reacting to completion by the {@link Executable}. This subscription requests a bounded
+     * demand of two chunks ({@code 2 * maxSize}) initially, and one more chunk ({@code maxSize}) once a chunk of items
+     * is consumed.
+     *
+     * @param consumer the consumer to be invoked on each chunk of values
+     * @param errorConsumer the consumer to be invoked on error signals
+     * @param completeConsumer the consumer to be invoked on complete signals
+     * @param maxSize the maximum size of a chunk
+     * @param maxTime the time limit of a chunk, or {@code null} if unlimited
+     *
+     * @return a new {@link Disposable} that can be used to cancel the underlying {@link org.reactivestreams.Subscription}
+     */
+    public Disposable subscribeChunked(Executable1<? super Chunk<V>> consumer, Executable1<? super Throwable> errorConsumer,
+                                       Executable completeConsumer, int maxSize, Duration maxTime) {
+        ChunkSubscriber<V, E> subscriber = new ChunkSubscriber<>(requireNonNull(consumer), requireNonNull(errorConsumer),
+                errorConsumer, requireNonNull(completeConsumer), null, maxSize, maxTime, Context.empty());
+        subscribe(subscriber); return subscriber;
+    }
+
     /**
      * Return a FluxPublishable by the given {@link Flux}.
      *
@@ -110,6 +222,119 @@ public class FluxPublishable<V, E extends Exception> extends Flux<V> implements
      * @throws NullPointerException if the {@link Flux} specified is {@code null}
      */
     public static <V, E extends Exception> FluxPublishable<V, E> flux(Flux<V> flux) {
-        return new FluxPublishable<>(flux);
+        return wrap(requireNonNull(flux), null);
+    }
+
+    /**
+     * Return a FluxPublishable by the given {@link Flux} and type of the {@link E} exceptions.
+     *
+     * @param flux the given {@link Flux}
+     * @param faultType the given type of the {@link E} exceptions
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     * @return a FluxPublishable by the given {@link Flux} and type of the {@link E} exceptions
+     * @throws NullPointerException if the {@link Flux} or the type specified is {@code null}
+     */
+    public static <V, E extends Exception> FluxPublishable<V, E> flux(Flux<V> flux, Class<E> faultType) {
+        return wrap(flux, requireNonNull(faultType));
+    }
+
+    /**
+     * Return a FluxPublishable by the given {@link Flux} and type of the {@link E} exceptions,
+     * keeping the {@link Fuseable}, {@link Callable} and {@link Fuseable.ScalarCallable} nature of the {@link Flux}.
+     * <p>
+     * A FluxPublishable given is returned as is if the type is unknown or the same, or rewrapped otherwise,
+     * so that a signal takes a single hop however many times the {@link Flux} is adapted.
+     *
+     * @param flux the given {@link Flux}
+     * @param faultType the given type of the {@link E} exceptions, or {@code null} if unknown
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     * @return a FluxPublishable by the given {@link Flux} and type of the {@link E} exceptions
+     * @throws NullPointerException if the {@link Flux} specified is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E extends Exception> FluxPublishable<V, E> wrap(Flux<V> flux, Class<E> faultType) {
+        if (flux instanceof FluxPublishable) {
+            FluxPublishable<V, ?> publishable = (FluxPublishable<V, ?>) flux;
+            if (faultType == null || faultType == publishable.faultType)
+                return (FluxPublishable<V, E>) publishable;
+            flux = publishable.flux; }
+        if (flux instanceof Fuseable.ScalarCallable)
+            return flux instanceof Fuseable ? new FuseableScalarPublishable<>(flux, faultType)
+                    : new ScalarPublishable<>(flux, faultType);
+        if (flux instanceof Callable)
+            return flux instanceof Fuseable ? new FuseableCallablePublishable<>(flux, faultType)
+                    : new CallablePublishable<>(flux, faultType);
+        return flux instanceof Fuseable ? new FuseablePublishable<>(flux, faultType)
+                : new FluxPublishable<>(flux, faultType);
+    }
+
+
+    /**
+     * A FluxPublishable of the {@link Fuseable} {@link Flux}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class FuseablePublishable<V, E extends Exception> extends FluxPublishable<V, E> implements Fuseable {
+
+        protected FuseablePublishable(Flux<V> flux, Class<E> faultType) { super(flux, faultType); }
+    }
+
+    /**
+     * A FluxPublishable of the {@link Callable} {@link Flux}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class CallablePublishable<V, E extends Exception> extends FluxPublishable<V, E> implements Callable<V> {
+
+        private final Callable<V> callable;
+
+        @SuppressWarnings("unchecked")
+        protected CallablePublishable(Flux<V> flux, Class<E> faultType) {
+            super(flux, faultType); this.callable = (Callable<V>) flux; }
+
+        @Override public V call() throws Exception { return callable.call(); }
+    }
+
+    /**
+     * A FluxPublishable of the {@link Fuseable} {@link Callable} {@link Flux}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class FuseableCallablePublishable<V, E extends Exception> extends CallablePublishable<V, E> implements Fuseable {
+
+        protected FuseableCallablePublishable(Flux<V> flux, Class<E> faultType) { super(flux, faultType); }
+    }
+
+    /**
+     * A FluxPublishable of the {@link Fuseable.ScalarCallable} {@link Flux}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class ScalarPublishable<V, E extends Exception> extends FluxPublishable<V, E> implements Fuseable.ScalarCallable<V> {
+
+        private final Callable<V> callable;
+
+        @SuppressWarnings("unchecked")
+        protected ScalarPublishable(Flux<V> flux, Class<E> faultType) {
+            super(flux, faultType); this.callable = (Callable<V>) flux; }
+
+        @Override public V call() throws Exception { return callable.call(); }
+    }
+
+    /**
+     * A FluxPublishable of the {@link Fuseable} {@link Fuseable.ScalarCallable} {@link Flux}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class FuseableScalarPublishable<V, E extends Exception> extends ScalarPublishable<V, E> implements Fuseable {
+
+        protected FuseableScalarPublishable(Flux<V> flux, Class<E> faultType) { super(flux, faultType); }
     }
 }
@@ -0,0 +1,89 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A backpressure-aware {@link Subscription} emitting the items of a source by their indexes,
+ * holding the outstanding demand as its {@link AtomicLong} value.
+ */
+abstract class IndexedSubscription extends AtomicLong implements Subscription {
+
+    private static final long serialVersionUID = 2913817396203867471L;
+
+    /**
+     * The subscriber to emit to.
+     */
+    private final CoreSubscriber<?> subscriber;
+
+    /**
+     * The number of items to emit.
+     */
+    private final long count;
+
+    /**
+     * The index of the next item to emit, accessed by the draining thread only.
+     */
+    private long index;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Construct the object with the given subscriber and number of items to emit.
+     *
+     * @param subscriber the given subscriber
+     * @param count      the given number of items to emit
+     */
+    IndexedSubscription(CoreSubscriber<?> subscriber, long count) {
+        this.subscriber = subscriber; this.count = count;
+    }
+
+    @Override public void request(long n) {
+        if (Operators.validate(n)) {
+            long requested, next; do {
+                if ((requested = get()) == Long.MAX_VALUE) return;
+                next = Operators.addCap(requested, n);
+            } while (!compareAndSet(requested, next));
+            if (requested == 0) drain(next); } }
+
+    @Override public void cancel() { cancelled = true; }
+
+    /**
+     * Emit the item of the given index.
+     *
+     * @param index the given index
+     */
+    protected abstract void emit(long index);
+
+    /**
+     * Emit the items while there is a demand, completing once all the items are emitted.
+     *
+     * @param requested the outstanding demand
+     */
+    private void drain(long requested) {
+        long emitted = 0, index = this.index;
+        if (requested == Long.MAX_VALUE) {
+            while (index != count) {
+                if (cancelled) return;
+                emit(index++); }
+            if (!cancelled) subscriber.onComplete();
+            return; }
+        for (;;) {
+            while (emitted != requested && index != count) {
+                if (cancelled) return;
+                emit(index++); emitted++; }
+            if (cancelled) return;
+            if (index == count) {
+                subscriber.onComplete(); return; }
+            requested = get();
+            if (requested == emitted) {
+                this.index = index;
+                requested = addAndGet(-emitted);
+                if (requested == 0) return;
+                emitted = 0; }
+        }
+    }
+}
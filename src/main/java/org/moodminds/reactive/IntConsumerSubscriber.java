@@ -0,0 +1,36 @@
+package org.moodminds.reactive;
+
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import reactor.util.context.Context;
+
+import java.util.function.IntConsumer;
+
+import static org.moodminds.function.Executable1Throwing1.idle;
+
+/**
+ * A {@link ConsumerSubscriber} delegating the primitive {@code int} items to the given {@link IntConsumer}.
+ *
+ * @param <E> the type of exceptions to consume
+ */
+class IntConsumerSubscriber<E extends Exception> extends ConsumerSubscriber<Integer, E> implements IntPublishable.Subscriber<E> {
+
+    private final IntConsumer itemConsumer;
+
+    IntConsumerSubscriber(IntConsumer itemConsumer,
+                          Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                          Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                          ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                          Class<E> faultType, Demand demand, Context context) {
+        super(idle(), faultConsumer, errorConsumer, completeConsumer, faultType, demand, context);
+        this.itemConsumer = itemConsumer;
+    }
+
+    @Override public void onNextInt(int item) {
+        if (scope == null) itemConsumer.accept(item);
+        else { long opened = scope.open();
+            try { itemConsumer.accept(item); } finally { scope.close(opened); } }
+        consumed(); }
+
+    @Override public void onNext(Integer item) { onNextInt(item); }
+}
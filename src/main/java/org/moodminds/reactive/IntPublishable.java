@@ -0,0 +1,243 @@
+package org.moodminds.reactive;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import org.reactivestreams.Publisher;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.function.IntConsumer;
+
+import static java.util.Objects.requireNonNull;
+import static org.moodminds.function.Executable1Throwing1.idle;
+import static org.moodminds.reactive.context.ContainerContext.context;
+import static org.moodminds.reactive.context.KeyValueContext.context;
+
+/**
+ * A primitive {@code int} specialization of the {@link Publishable} interface, emitting the items
+ * to the {@link Subscriber IntPublishable.Subscriber} without boxing.
+ *
+ * @param <E> the type of potential exceptions
+ */
+public interface IntPublishable<E extends Exception> extends Publishable<Integer, E> {
+
+    /**
+     * Subscribe the given {@link Subscriber IntPublishable.Subscriber} to this IntPublishable.
+     *
+     * @param subscriber the given {@link Subscriber IntPublishable.Subscriber}
+     */
+    void subscribe(Subscriber<? super E> subscriber);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param subscriber {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default void subscribe(CoreSubscriber<? super Integer> subscriber) {
+        if (subscriber instanceof Subscriber)
+            subscribe((Subscriber<? super E>) subscriber);
+        else subscribe(boxing(subscriber));
+    }
+
+    /**
+     * Subscribe to this IntPublishable with the specified primitive item consumer and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer the given primitive item consumer
+     * @param ctx          the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if the specified item consumer is {@code null}
+     */
+    default void subscribeInt(IntConsumer itemConsumer, KeyValue<?, ?>... ctx) {
+        subscribeInt(itemConsumer, idle(), idle(), ExecutableThrowing1.idle(), ctx);
+    }
+
+    /**
+     * Subscribe to this IntPublishable with the specified primitive item consumer and {@link Association context}.
+     *
+     * @param itemConsumer the given primitive item consumer
+     * @param ctx          the given {@link Association context}
+     * @throws NullPointerException if the specified item consumer or {@link Association context} is {@code null}
+     */
+    default void subscribeInt(IntConsumer itemConsumer, Association<?, ?, ?> ctx) {
+        subscribeInt(itemConsumer, idle(), idle(), ExecutableThrowing1.idle(), ctx);
+    }
+
+    /**
+     * Subscribe to this IntPublishable with the specified primitive item consumer, events consumers
+     * and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param ctx              the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if any of the specified events consumers is {@code null}
+     */
+    default void subscribeInt(IntConsumer itemConsumer,
+                              Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                              Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                              ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                              KeyValue<?, ?>... ctx) {
+        subscribe(intSubscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), Demand.unbounded(), context(ctx)));
+    }
+
+    /**
+     * Subscribe to this IntPublishable with the specified primitive item consumer, events consumers
+     * and {@link Association context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param ctx              the given {@link Association context}
+     * @throws NullPointerException if any of the specified events consumers or {@link Association context} is {@code null}
+     */
+    default void subscribeInt(IntConsumer itemConsumer,
+                              Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                              Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                              ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                              Association<?, ?, ?> ctx) {
+        subscribe(intSubscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), Demand.unbounded(), context(ctx)));
+    }
+
+    /**
+     * Return a {@link FluxPublishable} of the boxed items of this IntPublishable.
+     *
+     * @return a {@link FluxPublishable} of the boxed items of this IntPublishable
+     */
+    default FluxPublishable<Integer, E> flux() {
+        Class<E> faultType = faultType(); Flux<Integer> flux = Flux.from(this);
+        return faultType != null ? FluxPublishable.flux(flux, faultType) : FluxPublishable.flux(flux);
+    }
+
+
+    /**
+     * A {@link Publishable.Subscriber} consuming the primitive {@code int} items without boxing.
+     *
+     * @param <E> the type of exceptions to consume
+     */
+    interface Subscriber<E extends Exception> extends Publishable.Subscriber<Integer, E> {
+
+        /**
+         * Consume the given primitive item.
+         *
+         * @param item the given primitive item
+         */
+        void onNextInt(int item);
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param item {@inheritDoc}
+         */
+        @Override
+        default void onNext(Integer item) {
+            onNextInt(item);
+        }
+    }
+
+
+    /**
+     * Return a {@link Subscriber IntPublishable.Subscriber} by the given primitive item consumer, events consumers,
+     * fault type, {@link Demand} and {@link Context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param demand           the given {@link Demand} to request items by
+     * @param context          the given {@link Context}
+     * @param <E>              the type of exceptions to consume
+     * @return a {@link Subscriber IntPublishable.Subscriber} by the given events consumers, fault type,
+     * {@link Demand} and {@link Context}
+     * @throws NullPointerException is any of the specified events consumers, the {@link Demand}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <E extends Exception> Subscriber<E> intSubscriber(IntConsumer itemConsumer,
+                                                             Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                             Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                             ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                             Class<E> faultType, Demand demand, Context context) {
+        requireNonNull(itemConsumer); requireNonNull(errorConsumer); requireNonNull(faultConsumer);
+        requireNonNull(completeConsumer); requireNonNull(demand); requireNonNull(context);
+        return new IntConsumerSubscriber<>(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, demand, context);
+    }
+
+    /**
+     * Return a {@link Subscriber IntPublishable.Subscriber} boxing the items to the given {@link CoreSubscriber}.
+     *
+     * @param subscriber the given {@link CoreSubscriber}
+     * @param <E>        the type of exceptions to consume
+     * @return a {@link Subscriber IntPublishable.Subscriber} boxing the items to the given {@link CoreSubscriber}
+     * @throws NullPointerException is the specified {@link CoreSubscriber} is {@code null}
+     */
+    static <E extends Exception> Subscriber<E> boxing(CoreSubscriber<? super Integer> subscriber) {
+        requireNonNull(subscriber); return new Subscriber<E>() {
+            @Override public void onSubscribe(org.reactivestreams.Subscription s) { subscriber.onSubscribe(s); }
+            @Override public void onNextInt(int item) { subscriber.onNext(item); }
+            @Override public void onNext(Integer item) { subscriber.onNext(item); }
+            @Override public void onError(E error) { subscriber.onError(error); }
+            @Override public void onError(Throwable error) { subscriber.onError(error); }
+            @Override public void onComplete() { subscriber.onComplete(); }
+            @Override public Context currentContext() { return subscriber.currentContext(); }
+        };
+    }
+
+    /**
+     * Return an IntPublishable emitting the sequence of the given number of incrementing items from the given start.
+     *
+     * @param start the given start
+     * @param count the given number of items
+     * @param <E>   the type of potential exceptions
+     * @return an IntPublishable emitting the sequence of the given number of incrementing items
+     * @throws IllegalArgumentException if the specified number of items is negative, or the last item
+     *                                  {@code start + count - 1} exceeds {@code Integer.MAX_VALUE}
+     */
+    static <E extends Exception> IntPublishable<E> range(int start, int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        if ((long) start + count - 1 > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Start + count must not exceed Integer.MAX_VALUE + 1: " + start + " + " + count);
+        return subscriber -> {
+            if (count == 0) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new IndexedSubscription(subscriber, count) {
+                @Override protected void emit(long index) { subscriber.onNextInt(start + (int) index); } }); };
+    }
+
+    /**
+     * Return an IntPublishable emitting the given items.
+     *
+     * @param items the given items
+     * @param <E>   the type of potential exceptions
+     * @return an IntPublishable emitting the given items
+     * @throws NullPointerException if the specified items array is {@code null}
+     */
+    static <E extends Exception> IntPublishable<E> fromArray(int... items) {
+        requireNonNull(items); return subscriber -> {
+            if (items.length == 0) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new IndexedSubscription(subscriber, items.length) {
+                @Override protected void emit(long index) { subscriber.onNextInt(items[(int) index]); } }); };
+    }
+
+    /**
+     * Return an IntPublishable of the given {@link Publisher} of the boxed items, unboxing them to
+     * the {@link Subscriber IntPublishable.Subscriber}, or the {@link Publisher} itself if it is an IntPublishable.
+     *
+     * @param publisher the given {@link Publisher} of the boxed items
+     * @param <E>       the type of potential exceptions
+     * @return an IntPublishable of the given {@link Publisher} of the boxed items
+     * @throws NullPointerException if the specified {@link Publisher} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Exception> IntPublishable<E> ints(Publisher<Integer> publisher) {
+        if (requireNonNull(publisher) instanceof IntPublishable)
+            return (IntPublishable<E>) publisher;
+        return publisher::subscribe;
+    }
+}
@@ -0,0 +1,92 @@
+package org.moodminds.reactive;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+import reactor.core.publisher.Operators;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A backpressure-aware {@link Fuseable.SynchronousSubscription} emitting the elements of a non-empty {@link Iterator},
+ * holding the outstanding demand as its {@link AtomicLong} value.
+ *
+ * @param <V> the type of item values
+ */
+class IterableSubscription<V> extends AtomicLong implements Fuseable.SynchronousSubscription<V> {
+
+    private static final long serialVersionUID = 6240984573265014937L;
+
+    private final CoreSubscriber<? super V> subscriber;
+    private final Iterator<? extends V> iterator;
+
+    /**
+     * The flag of the {@link Iterator} having no next element, accessed by the draining or polling thread only.
+     */
+    private boolean exhausted;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Construct the object with the given subscriber and {@link Iterator}, which is known to have a next element.
+     *
+     * @param subscriber the given subscriber
+     * @param iterator   the given {@link Iterator}
+     */
+    IterableSubscription(CoreSubscriber<? super V> subscriber, Iterator<? extends V> iterator) {
+        this.subscriber = subscriber; this.iterator = iterator;
+    }
+
+    @Override public void request(long n) {
+        if (Operators.validate(n)) {
+            long requested, next; do {
+                if ((requested = get()) == Long.MAX_VALUE) return;
+                next = Operators.addCap(requested, n);
+            } while (!compareAndSet(requested, next));
+            if (requested == 0) drain(next); } }
+
+    @Override public void cancel() { cancelled = true; }
+
+    @Override public V poll() {
+        if (exhausted) return null;
+        V item = requireNonNull(iterator.next(), "The iterator returned a null element");
+        exhausted = !iterator.hasNext();
+        return item; }
+
+    @Override public int size() { return exhausted ? 0 : 1; }
+
+    @Override public boolean isEmpty() { return exhausted; }
+
+    @Override public void clear() { exhausted = true; }
+
+    /**
+     * Emit the elements while there is a demand, completing once the {@link Iterator} is exhausted.
+     *
+     * @param requested the outstanding demand
+     */
+    private void drain(long requested) {
+        long emitted = 0;
+        for (;;) {
+            while (emitted != requested) {
+                if (cancelled) return;
+                V item; boolean exhausted;
+                try { item = requireNonNull(iterator.next(), "The iterator returned a null element"); }
+                catch (Throwable e) { subscriber.onError(e); return; }
+                subscriber.onNext(item);
+                if (cancelled) return;
+                try { exhausted = !iterator.hasNext(); }
+                catch (Throwable e) { subscriber.onError(e); return; }
+                if (exhausted) {
+                    subscriber.onComplete(); return; }
+                emitted++; }
+            if (requested == Long.MAX_VALUE) continue;
+            requested = get();
+            if (requested == emitted) {
+                requested = addAndGet(-emitted);
+                if (requested == 0) return;
+                emitted = 0; }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.moodminds.reactive;
+
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import reactor.util.context.Context;
+
+import java.util.function.LongConsumer;
+
+import static org.moodminds.function.Executable1Throwing1.idle;
+
+/**
+ * A {@link ConsumerSubscriber} delegating the primitive {@code long} items to the given {@link LongConsumer}.
+ *
+ * @param <E> the type of exceptions to consume
+ */
+class LongConsumerSubscriber<E extends Exception> extends ConsumerSubscriber<Long, E> implements LongPublishable.Subscriber<E> {
+
+    private final LongConsumer itemConsumer;
+
+    LongConsumerSubscriber(LongConsumer itemConsumer,
+                           Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                           Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                           ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                           Class<E> faultType, Demand demand, Context context) {
+        super(idle(), faultConsumer, errorConsumer, completeConsumer, faultType, demand, context);
+        this.itemConsumer = itemConsumer;
+    }
+
+    @Override public void onNextLong(long item) {
+        if (scope == null) itemConsumer.accept(item);
+        else { long opened = scope.open();
+            try { itemConsumer.accept(item); } finally { scope.close(opened); } }
+        consumed(); }
+
+    @Override public void onNext(Long item) { onNextLong(item); }
+}
@@ -0,0 +1,243 @@
+package org.moodminds.reactive;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import org.reactivestreams.Publisher;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
+import static org.moodminds.function.Executable1Throwing1.idle;
+import static org.moodminds.reactive.context.ContainerContext.context;
+import static org.moodminds.reactive.context.KeyValueContext.context;
+
+/**
+ * A primitive {@code long} specialization of the {@link Publishable} interface, emitting the items
+ * to the {@link Subscriber LongPublishable.Subscriber} without boxing.
+ *
+ * @param <E> the type of potential exceptions
+ */
+public interface LongPublishable<E extends Exception> extends Publishable<Long, E> {
+
+    /**
+     * Subscribe the given {@link Subscriber LongPublishable.Subscriber} to this LongPublishable.
+     *
+     * @param subscriber the given {@link Subscriber LongPublishable.Subscriber}
+     */
+    void subscribe(Subscriber<? super E> subscriber);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param subscriber {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default void subscribe(CoreSubscriber<? super Long> subscriber) {
+        if (subscriber instanceof Subscriber)
+            subscribe((Subscriber<? super E>) subscriber);
+        else subscribe(boxing(subscriber));
+    }
+
+    /**
+     * Subscribe to this LongPublishable with the specified primitive item consumer and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer the given primitive item consumer
+     * @param ctx          the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if the specified item consumer is {@code null}
+     */
+    default void subscribeLong(LongConsumer itemConsumer, KeyValue<?, ?>... ctx) {
+        subscribeLong(itemConsumer, idle(), idle(), ExecutableThrowing1.idle(), ctx);
+    }
+
+    /**
+     * Subscribe to this LongPublishable with the specified primitive item consumer and {@link Association context}.
+     *
+     * @param itemConsumer the given primitive item consumer
+     * @param ctx          the given {@link Association context}
+     * @throws NullPointerException if the specified item consumer or {@link Association context} is {@code null}
+     */
+    default void subscribeLong(LongConsumer itemConsumer, Association<?, ?, ?> ctx) {
+        subscribeLong(itemConsumer, idle(), idle(), ExecutableThrowing1.idle(), ctx);
+    }
+
+    /**
+     * Subscribe to this LongPublishable with the specified primitive item consumer, events consumers
+     * and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param ctx              the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if any of the specified events consumers is {@code null}
+     */
+    default void subscribeLong(LongConsumer itemConsumer,
+                               Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                               Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                               ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                               KeyValue<?, ?>... ctx) {
+        subscribe(longSubscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), Demand.unbounded(), context(ctx)));
+    }
+
+    /**
+     * Subscribe to this LongPublishable with the specified primitive item consumer, events consumers
+     * and {@link Association context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param ctx              the given {@link Association context}
+     * @throws NullPointerException if any of the specified events consumers or {@link Association context} is {@code null}
+     */
+    default void subscribeLong(LongConsumer itemConsumer,
+                               Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                               Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                               ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                               Association<?, ?, ?> ctx) {
+        subscribe(longSubscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), Demand.unbounded(), context(ctx)));
+    }
+
+    /**
+     * Return a {@link FluxPublishable} of the boxed items of this LongPublishable.
+     *
+     * @return a {@link FluxPublishable} of the boxed items of this LongPublishable
+     */
+    default FluxPublishable<Long, E> flux() {
+        Class<E> faultType = faultType(); Flux<Long> flux = Flux.from(this);
+        return faultType != null ? FluxPublishable.flux(flux, faultType) : FluxPublishable.flux(flux);
+    }
+
+
+    /**
+     * A {@link Publishable.Subscriber} consuming the primitive {@code long} items without boxing.
+     *
+     * @param <E> the type of exceptions to consume
+     */
+    interface Subscriber<E extends Exception> extends Publishable.Subscriber<Long, E> {
+
+        /**
+         * Consume the given primitive item.
+         *
+         * @param item the given primitive item
+         */
+        void onNextLong(long item);
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param item {@inheritDoc}
+         */
+        @Override
+        default void onNext(Long item) {
+            onNextLong(item);
+        }
+    }
+
+
+    /**
+     * Return a {@link Subscriber LongPublishable.Subscriber} by the given primitive item consumer, events consumers,
+     * fault type, {@link Demand} and {@link Context}.
+     *
+     * @param itemConsumer     the given primitive item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param demand           the given {@link Demand} to request items by
+     * @param context          the given {@link Context}
+     * @param <E>              the type of exceptions to consume
+     * @return a {@link Subscriber LongPublishable.Subscriber} by the given events consumers, fault type,
+     * {@link Demand} and {@link Context}
+     * @throws NullPointerException is any of the specified events consumers, the {@link Demand}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <E extends Exception> Subscriber<E> longSubscriber(LongConsumer itemConsumer,
+                                                              Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                              Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                              ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                              Class<E> faultType, Demand demand, Context context) {
+        requireNonNull(itemConsumer); requireNonNull(errorConsumer); requireNonNull(faultConsumer);
+        requireNonNull(completeConsumer); requireNonNull(demand); requireNonNull(context);
+        return new LongConsumerSubscriber<>(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, demand, context);
+    }
+
+    /**
+     * Return a {@link Subscriber LongPublishable.Subscriber} boxing the items to the given {@link CoreSubscriber}.
+     *
+     * @param subscriber the given {@link CoreSubscriber}
+     * @param <E>        the type of exceptions to consume
+     * @return a {@link Subscriber LongPublishable.Subscriber} boxing the items to the given {@link CoreSubscriber}
+     * @throws NullPointerException is the specified {@link CoreSubscriber} is {@code null}
+     */
+    static <E extends Exception> Subscriber<E> boxing(CoreSubscriber<? super Long> subscriber) {
+        requireNonNull(subscriber); return new Subscriber<E>() {
+            @Override public void onSubscribe(org.reactivestreams.Subscription s) { subscriber.onSubscribe(s); }
+            @Override public void onNextLong(long item) { subscriber.onNext(item); }
+            @Override public void onNext(Long item) { subscriber.onNext(item); }
+            @Override public void onError(E error) { subscriber.onError(error); }
+            @Override public void onError(Throwable error) { subscriber.onError(error); }
+            @Override public void onComplete() { subscriber.onComplete(); }
+            @Override public Context currentContext() { return subscriber.currentContext(); }
+        };
+    }
+
+    /**
+     * Return a LongPublishable emitting the sequence of the given number of incrementing items from the given start.
+     *
+     * @param start the given start
+     * @param count the given number of items
+     * @param <E>   the type of potential exceptions
+     * @return a LongPublishable emitting the sequence of the given number of incrementing items
+     * @throws IllegalArgumentException if the specified number of items is negative, or the last item
+     *                                  {@code start + count - 1} exceeds {@code Long.MAX_VALUE}
+     */
+    static <E extends Exception> LongPublishable<E> range(long start, long count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        if (count > 0 && start > Long.MAX_VALUE - (count - 1))
+            throw new IllegalArgumentException("Start + count must not exceed Long.MAX_VALUE + 1: " + start + " + " + count);
+        return subscriber -> {
+            if (count == 0) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new IndexedSubscription(subscriber, count) {
+                @Override protected void emit(long index) { subscriber.onNextLong(start + index); } }); };
+    }
+
+    /**
+     * Return a LongPublishable emitting the given items.
+     *
+     * @param items the given items
+     * @param <E>   the type of potential exceptions
+     * @return a LongPublishable emitting the given items
+     * @throws NullPointerException if the specified items array is {@code null}
+     */
+    static <E extends Exception> LongPublishable<E> fromArray(long... items) {
+        requireNonNull(items); return subscriber -> {
+            if (items.length == 0) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new IndexedSubscription(subscriber, items.length) {
+                @Override protected void emit(long index) { subscriber.onNextLong(items[(int) index]); } }); };
+    }
+
+    /**
+     * Return a LongPublishable of the given {@link Publisher} of the boxed items, unboxing them to
+     * the {@link Subscriber LongPublishable.Subscriber}, or the {@link Publisher} itself if it is a LongPublishable.
+     *
+     * @param publisher the given {@link Publisher} of the boxed items
+     * @param <E>       the type of potential exceptions
+     * @return a LongPublishable of the given {@link Publisher} of the boxed items
+     * @throws NullPointerException if the specified {@link Publisher} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Exception> LongPublishable<E> longs(Publisher<Long> publisher) {
+        if (requireNonNull(publisher) instanceof LongPublishable)
+            return (LongPublishable<E>) publisher;
+        return publisher::subscribe;
+    }
+}
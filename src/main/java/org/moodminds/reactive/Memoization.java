@@ -0,0 +1,131 @@
+package org.moodminds.reactive;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A memoization policy of the {@link MonoPublishable#memoize(Memoization)} results: the context keys
+ * the results depend on, their time to live, the maximum number of them kept and the time to live
+ * of the {@code E} faults cached negatively.
+ */
+public final class Memoization {
+
+    /**
+     * The default maximum number of the results kept.
+     */
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Object[] keys;
+    private final Duration ttl;
+    private final int maxSize;
+    private final Duration faultTtl;
+
+    private Memoization(Object[] keys, Duration ttl, int maxSize, Duration faultTtl) {
+        this.keys = keys; this.ttl = ttl; this.maxSize = maxSize; this.faultTtl = faultTtl;
+    }
+
+    /**
+     * Return the context keys the results depend on.
+     *
+     * @return the context keys the results depend on
+     */
+    Object[] keys() {
+        return keys;
+    }
+
+    /**
+     * Return the time to live of a result, or {@code null} if unlimited.
+     *
+     * @return the time to live of a result, or {@code null} if unlimited
+     */
+    Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * Return the maximum number of the results kept.
+     *
+     * @return the maximum number of the results kept
+     */
+    int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Return the time to live of a cached {@code E} fault, or {@code null} if the faults are not cached.
+     *
+     * @return the time to live of a cached {@code E} fault, or {@code null} if the faults are not cached
+     */
+    Duration faultTtl() {
+        return faultTtl;
+    }
+
+    /**
+     * Return a copy of this Memoization with the given time to live of a result.
+     *
+     * @param ttl the given time to live of a result
+     * @return a copy of this Memoization with the given time to live of a result
+     * @throws NullPointerException     if the specified time to live is {@code null}
+     * @throws IllegalArgumentException if the specified time to live is not positive
+     */
+    public Memoization ttl(Duration ttl) {
+        return new Memoization(keys, positive(ttl), maxSize, faultTtl);
+    }
+
+    /**
+     * Return a copy of this Memoization with the given maximum number of the results kept,
+     * the least recently used ones being evicted first.
+     *
+     * @param maxSize the given maximum number of the results kept
+     * @return a copy of this Memoization with the given maximum number of the results kept
+     * @throws IllegalArgumentException if the specified maximum number is not positive
+     */
+    public Memoization maxSize(int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Max size must be positive: " + maxSize);
+        return new Memoization(keys, ttl, maxSize, faultTtl);
+    }
+
+    /**
+     * Return a copy of this Memoization caching the {@code E} faults for the given time to live.
+     *
+     * @param faultTtl the given time to live of a cached {@code E} fault
+     * @return a copy of this Memoization caching the {@code E} faults for the given time to live
+     * @throws NullPointerException     if the specified time to live is {@code null}
+     * @throws IllegalArgumentException if the specified time to live is not positive
+     */
+    public Memoization faultTtl(Duration faultTtl) {
+        return new Memoization(keys, ttl, maxSize, positive(faultTtl));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Memoization{keys=" + Arrays.toString(keys) + ", ttl=" + ttl + ", maxSize=" + maxSize + ", faultTtl=" + faultTtl + "}";
+    }
+
+    /**
+     * Return a Memoization by the given context keys, keeping up to 1024 results for unlimited time
+     * and not caching the {@code E} faults.
+     *
+     * @param keys the given context keys the results depend on
+     * @return a Memoization by the given context keys
+     * @throws NullPointerException if the keys array or any of its elements is {@code null}
+     */
+    public static Memoization by(Object... keys) {
+        for (Object key : keys) requireNonNull(key, "key");
+        return new Memoization(keys.clone(), null, DEFAULT_MAX_SIZE, null);
+    }
+
+    private static Duration positive(Duration duration) {
+        if (requireNonNull(duration).isNegative() || duration.isZero())
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        return duration;
+    }
+}
@@ -0,0 +1,141 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Mono} memoizing the results of the source {@link MonoPublishable} by the values of the given
+ * {@link Memoization} keys in the subscriber's {@link Context}, with a single source subscription per key
+ * for all the concurrent subscribers.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+class MemoizingMono<V, E extends Exception> extends Mono<V> {
+
+    /**
+     * The marker of a key absent in the subscriber's {@link Context}.
+     */
+    private static final Object ABSENT = new Object();
+
+    private final MonoPublishable<V, E> source;
+    private final Memoization memoization;
+
+    /**
+     * The results by the key values, the least recently used ones first.
+     */
+    private final Map<List<Object>, Result<V>> results;
+
+    MemoizingMono(MonoPublishable<V, E> source, Memoization memoization) {
+        this.source = source; this.memoization = memoization;
+        this.results = new LinkedHashMap<List<Object>, Result<V>>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<List<Object>, Result<V>> eldest) {
+                return size() > memoization.maxSize(); } };
+    }
+
+    @Override public void subscribe(CoreSubscriber<? super V> actual) {
+        Context context = actual.currentContext();
+        Object[] keys = memoization.keys(), values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++)
+            values[i] = context.getOrDefault(keys[i], ABSENT);
+        List<Object> key = Arrays.asList(values);
+        Result<V> result; boolean owner = false; long now = System.nanoTime();
+        synchronized (results) {
+            result = results.get(key);
+            if (result == null || result.expired(now)) {
+                results.put(key, result = new Result<>()); owner = true; } }
+        result.sink.asMono().subscribe(actual);
+        if (owner) source.subscribe((CoreSubscriber<? super V>) new ResultSubscriber(key, result, context));
+    }
+
+    /**
+     * Evict the given result of the given key, unless replaced already.
+     *
+     * @param key    the given key
+     * @param result the given result
+     */
+    private void evict(List<Object> key, Result<V> result) {
+        synchronized (results) { results.remove(key, result); }
+    }
+
+
+    /**
+     * A memoized result, in flight until its deadline is set.
+     *
+     * @param <V> the type of item values
+     */
+    static final class Result<V> {
+
+        final Sinks.One<V> sink = Sinks.one();
+
+        private volatile boolean resolved;
+        private volatile long deadline;
+
+        /**
+         * Resolve this result, to expire after the given time to live.
+         *
+         * @param ttl the given time to live, or {@code null} if unlimited
+         */
+        void resolve(Duration ttl) {
+            if (ttl != null) deadline = System.nanoTime() + ttl.toNanos();
+            else deadline = Long.MAX_VALUE;
+            resolved = true;
+        }
+
+        /**
+         * Check if this result is resolved and expired by the given time.
+         *
+         * @param now the given time, in nanoseconds
+         * @return {@code true} if this result is expired
+         */
+        boolean expired(long now) {
+            long deadline = this.deadline;
+            return resolved && deadline != Long.MAX_VALUE && now - deadline >= 0;
+        }
+    }
+
+    /**
+     * The single source subscriber of a key, resolving its {@link Result}.
+     */
+    private final class ResultSubscriber implements CoreSubscriber<V> {
+
+        private final List<Object> key;
+        private final Result<V> result;
+        private final Context context;
+
+        private V value;
+
+        ResultSubscriber(List<Object> key, Result<V> result, Context context) {
+            this.key = key; this.result = result; this.context = context;
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE); }
+
+        @Override public void onNext(V item) { value = item; }
+
+        @Override public void onError(Throwable error) {
+            Class<E> faultType = source.faultType();
+            boolean fault = faultType != null ? faultType.isInstance(error)
+                    : error instanceof Exception && !(error instanceof RuntimeException);
+            if (fault && memoization.faultTtl() != null) result.resolve(memoization.faultTtl());
+            else evict(key, result);
+            result.sink.emitError(error, Sinks.EmitFailureHandler.FAIL_FAST); }
+
+        @Override public void onComplete() {
+            result.resolve(memoization.ttl());
+            if (value != null) result.sink.emitValue(value, Sinks.EmitFailureHandler.FAIL_FAST);
+            else result.sink.emitEmpty(Sinks.EmitFailureHandler.FAIL_FAST); }
+
+        @Override public Context currentContext() { return context; }
+    }
+}
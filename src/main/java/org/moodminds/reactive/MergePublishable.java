@@ -0,0 +1,381 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Publishable} merging the items of the source ones through a single shared MPSC queue, each source
+ * requested by its own prefetch replenished as its items are delivered downstream, so that an idle source
+ * holds no buffer at all.
+ * <p>
+ * Having a {@link Comparator}, the items are merged k-way in its order by a heap of the sources' heads,
+ * assuming each source is ordered: an item is delivered once every unfinished source has a head.
+ * The first {@link E} fault or error either cancels the other sources at once, or, delayed,
+ * is delivered once all the other sources terminate, the subsequent ones dropped.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+class MergePublishable<V, E extends Exception> implements Publishable<V, E> {
+
+    private final Publishable<? extends V, ? extends E>[] sources;
+    private final Comparator<? super V> comparator;
+    private final int prefetch;
+    private final boolean delayFault;
+    private final Class<E> faultType;
+
+    MergePublishable(Publishable<? extends V, ? extends E>[] sources, Comparator<? super V> comparator,
+                     int prefetch, boolean delayFault, Class<E> faultType) {
+        this.sources = sources; this.comparator = comparator; this.prefetch = prefetch;
+        this.delayFault = delayFault; this.faultType = faultType;
+    }
+
+    /**
+     * Return a MergePublishable of the given sources, {@link Comparator}, prefetch and fault delay, having
+     * the fault type of the sources if they all have the same.
+     *
+     * @param sources    the given sources
+     * @param comparator the given {@link Comparator}, or {@code null} if the merge is unordered
+     * @param prefetch   the given number of items prefetched of each source
+     * @param delayFault whether to delay the first fault or error
+     * @param <V>        the type of item values
+     * @param <E>        the type of potential exceptions
+     * @return a MergePublishable of the given sources
+     * @throws NullPointerException     if the specified {@link Iterable} or any of its sources is {@code null}
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E extends Exception> MergePublishable<V, E> merge(Iterable<? extends Publishable<? extends V, ? extends E>> sources,
+                                                                 Comparator<? super V> comparator, int prefetch, boolean delayFault) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("Prefetch must be positive: " + prefetch);
+        List<Publishable<? extends V, ? extends E>> list = new ArrayList<>();
+        for (Publishable<? extends V, ? extends E> source : requireNonNull(sources))
+            list.add(requireNonNull(source));
+        Class<?> faultType = list.isEmpty() ? null : list.get(0).faultType();
+        for (Publishable<? extends V, ? extends E> source : list)
+            if (faultType != source.faultType()) {
+                faultType = null; break; }
+        return new MergePublishable<>(list.toArray(new Publishable[0]), comparator, prefetch, delayFault, (Class<E>) faultType);
+    }
+
+    @Override public void subscribe(CoreSubscriber<? super V> subscriber) {
+        MergeSubscription<V> merge = new MergeSubscription<>(subscriber, sources.length, comparator, prefetch, delayFault);
+        subscriber.onSubscribe(merge);
+        for (int i = 0; i < sources.length && !merge.cancelled; i++)
+            sources[i].subscribe(merge.inners[i]);
+        if (sources.length == 0) merge.drain();
+    }
+
+    @Override public Class<E> faultType() { return faultType; }
+
+    /**
+     * An item of a source, linked to the next pending one of the same source in the ordered merge.
+     *
+     * @param <V> the type of item values
+     */
+    static final class Node<V> {
+
+        final Inner<V> inner;
+        final V value;
+        Node<V> next;
+
+        Node(Inner<V> inner, V value) {
+            this.inner = inner; this.value = value;
+        }
+    }
+
+    /**
+     * The merge subscription draining the shared queue to the downstream subscriber.
+     *
+     * @param <V> the type of item values
+     */
+    static final class MergeSubscription<V> implements Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MergeSubscription> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(MergeSubscription.class, "wip");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicLongFieldUpdater<MergeSubscription> REQUESTED =
+                AtomicLongFieldUpdater.newUpdater(MergeSubscription.class, "requested");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<MergeSubscription> ACTIVE =
+                AtomicIntegerFieldUpdater.newUpdater(MergeSubscription.class, "active");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<MergeSubscription, Throwable> ERROR =
+                AtomicReferenceFieldUpdater.newUpdater(MergeSubscription.class, Throwable.class, "error");
+
+        private final CoreSubscriber<? super V> actual;
+        private final Comparator<? super V> comparator;
+        private final boolean delayFault;
+        private final Queue<Object> queue;
+
+        final Inner<V>[] inners;
+
+        /**
+         * The heap of the sources having the pending items, by their head items, in the ordered merge.
+         */
+        private final Inner<V>[] heap;
+        private int size;
+
+        /**
+         * The number of the sources not yet finished, or finished having the pending items,
+         * in the ordered merge, written by the draining thread only.
+         */
+        private int remaining;
+
+        private long emitted;
+
+        volatile boolean cancelled;
+        volatile int wip;
+        volatile long requested;
+        volatile int active;
+        volatile Throwable error;
+
+        @SuppressWarnings("unchecked")
+        MergeSubscription(CoreSubscriber<? super V> actual, int sources, Comparator<? super V> comparator,
+                          int prefetch, boolean delayFault) {
+            this.actual = actual; this.comparator = comparator; this.delayFault = delayFault;
+            this.queue = Queues.unboundedMultiproducer().get();
+            this.inners = new Inner[sources];
+            for (int i = 0; i < sources; i++)
+                inners[i] = new Inner<>(this, prefetch);
+            this.heap = comparator != null ? new Inner[sources] : null;
+            this.remaining = sources; this.active = sources;
+        }
+
+        @Override public void request(long n) {
+            if (Operators.validate(n)) {
+                Operators.addCap(REQUESTED, this, n); drain(); } }
+
+        @Override public void cancel() {
+            if (!cancelled) {
+                cancelled = true; cancelAll();
+                if (WIP.getAndIncrement(this) == 0) clear(); } }
+
+        /**
+         * Deliver the given item of the given source, directly if nothing is queued and there is demand
+         * in the unordered merge, otherwise by the shared queue.
+         *
+         * @param inner the given source subscriber
+         * @param value the given item
+         */
+        void next(Inner<V> inner, V value) {
+            if (comparator == null && wip == 0 && WIP.compareAndSet(this, 0, 1)) {
+                if (queue.isEmpty() && emitted != requested && error == null && !cancelled) {
+                    actual.onNext(value); emitted++; inner.consumed();
+                    if (WIP.decrementAndGet(this) != 0) drainLoop(); }
+                else {
+                    queue.offer(new Node<>(inner, value)); drainLoop(); }
+            } else {
+                queue.offer(new Node<>(inner, value)); drain(); }
+        }
+
+        /**
+         * Terminate the given source with the given error, cancelling the others unless the error is delayed.
+         *
+         * @param inner the given source subscriber
+         * @param error the given error
+         */
+        void error(Inner<V> inner, Throwable error) {
+            if (!ERROR.compareAndSet(this, null, error)) {
+                Operators.onErrorDropped(error, actual.currentContext()); }
+            if (delayFault) complete(inner);
+            else drain();
+        }
+
+        /**
+         * Terminate the given source normally.
+         *
+         * @param inner the given source subscriber
+         */
+        void complete(Inner<V> inner) {
+            if (comparator != null) queue.offer(inner);
+            ACTIVE.decrementAndGet(this); drain();
+        }
+
+        void drain() {
+            if (WIP.getAndIncrement(this) == 0) drainLoop();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                long requested = this.requested; long emitted = this.emitted;
+                for (;;) {
+                    if (cancelled) {
+                        clear(); return; }
+                    Throwable error = this.error;
+                    if (error != null && !delayFault) {
+                        clear(); cancelAll(); actual.onError(error); return; }
+                    if (comparator != null) {
+                        pull();
+                        if (remaining == 0) {
+                            terminate(error); return; }
+                        if (emitted == requested || size != remaining) break;
+                        Node<V> node = poll();
+                        actual.onNext(node.value); emitted++; node.inner.consumed();
+                    } else {
+                        boolean done = active == 0;
+                        Object item = emitted != requested ? queue.poll() : null;
+                        if (item == null) {
+                            if (done && queue.isEmpty()) {
+                                terminate(error); return; }
+                            break; }
+                        Node<V> node = (Node<V>) item;
+                        actual.onNext(node.value); emitted++; node.inner.consumed();
+                    }
+                }
+                this.emitted = emitted;
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) break;
+            }
+        }
+
+        /**
+         * Move the queued items to their sources' pending lists and account the finished sources,
+         * in the ordered merge.
+         */
+        @SuppressWarnings("unchecked")
+        private void pull() {
+            Object item;
+            while ((item = queue.poll()) != null)
+                if (item instanceof Node) {
+                    Node<V> node = (Node<V>) item; Inner<V> inner = node.inner;
+                    if (inner.head == null) {
+                        inner.head = inner.tail = node; offer(inner); }
+                    else inner.tail = inner.tail.next = node; }
+                else {
+                    Inner<V> inner = (Inner<V>) item;
+                    inner.finished = true;
+                    if (inner.head == null) remaining--; }
+        }
+
+        /**
+         * Take the least head item off the heap, keeping its source there if it has more pending items.
+         *
+         * @return the least head item
+         */
+        private Node<V> poll() {
+            Inner<V> inner = heap[0]; Node<V> node = inner.head;
+            inner.head = node.next; node.next = null;
+            if (inner.head != null) siftDown(0, inner);
+            else {
+                inner.tail = null; Inner<V> last = heap[--size]; heap[size] = null;
+                if (size > 0) siftDown(0, last);
+                if (inner.finished) remaining--; }
+            return node;
+        }
+
+        /**
+         * Add the given source having the pending items to the heap.
+         *
+         * @param inner the given source subscriber
+         */
+        private void offer(Inner<V> inner) {
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (comparator.compare(inner.head.value, heap[parent].head.value) >= 0) break;
+                heap[index] = heap[parent]; index = parent; }
+            heap[index] = inner;
+        }
+
+        private void siftDown(int index, Inner<V> inner) {
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1, right = child + 1;
+                if (right < size && comparator.compare(heap[right].head.value, heap[child].head.value) < 0)
+                    child = right;
+                if (comparator.compare(inner.head.value, heap[child].head.value) <= 0) break;
+                heap[index] = heap[child]; index = child; }
+            heap[index] = inner;
+        }
+
+        private void terminate(Throwable error) {
+            if (error != null) actual.onError(error);
+            else actual.onComplete();
+        }
+
+        private void cancelAll() {
+            for (Inner<V> inner : inners) inner.cancel();
+        }
+
+        private void clear() {
+            queue.clear();
+            if (heap != null) {
+                for (int i = 0; i < size; i++) {
+                    heap[i].head = heap[i].tail = null; heap[i] = null; }
+                size = 0; }
+        }
+    }
+
+    /**
+     * A subscriber of a single source, requesting it by the prefetch replenished as its items are delivered.
+     *
+     * @param <V> the type of item values
+     */
+    static final class Inner<V> implements CoreSubscriber<V> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Inner, Subscription> SUBSCRIPTION =
+                AtomicReferenceFieldUpdater.newUpdater(Inner.class, Subscription.class, "subscription");
+
+        private final MergeSubscription<V> parent;
+        private final int prefetch;
+        private final int limit;
+
+        volatile Subscription subscription;
+
+        /**
+         * The pending items of the ordered merge and the finished flag, accessed by the draining thread only.
+         */
+        Node<V> head, tail;
+        boolean finished;
+
+        private int consumed;
+
+        Inner(MergeSubscription<V> parent, int prefetch) {
+            this.parent = parent; this.prefetch = prefetch; this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            if (Operators.setOnce(SUBSCRIPTION, this, subscription))
+                subscription.request(prefetch); }
+
+        @Override public void onNext(V item) { parent.next(this, item); }
+
+        @Override public void onError(Throwable error) { parent.error(this, error); }
+
+        @Override public void onComplete() { parent.complete(this); }
+
+        @Override public Context currentContext() { return parent.actual.currentContext(); }
+
+        /**
+         * Account an item delivered downstream, replenishing the prefetch if due.
+         */
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0; subscription.request(limit); }
+        }
+
+        void cancel() { Operators.terminate(SUBSCRIPTION, this); }
+    }
+}
@@ -0,0 +1,107 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Scannable;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link CoreSubscriber} recording the signals passed to the actual one into the given {@link SignalMetrics},
+ * keeping the outstanding demand of its subscription as itself.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+class MeteredSubscriber<V, E extends Exception> extends AtomicLong implements CoreSubscriber<V>, Subscription, Scannable {
+
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<MeteredSubscriber> FINISHED =
+            AtomicIntegerFieldUpdater.newUpdater(MeteredSubscriber.class, "finished");
+
+    private final CoreSubscriber<? super V> actual;
+    private final SignalMetrics metrics;
+    private final Class<E> faultType;
+
+    private Subscription subscription;
+    private long start;
+    private boolean emitted;
+    private volatile boolean unbounded;
+    private volatile int finished;
+
+    MeteredSubscriber(CoreSubscriber<? super V> actual, SignalMetrics metrics, Class<E> faultType) {
+        this.actual = actual; this.metrics = metrics; this.faultType = faultType;
+    }
+
+    @Override public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription; start = System.nanoTime();
+        metrics.subscriptions.increment(); actual.onSubscribe(this); }
+
+    @Override public void onNext(V item) {
+        if (!emitted) {
+            emitted = true; metrics.firstItem.record(System.nanoTime() - start); }
+        metrics.items.increment();
+        if (!unbounded) {
+            decrementAndGet(); metrics.demand.decrement(); }
+        actual.onNext(item); }
+
+    @Override public void onError(Throwable error) {
+        if (finish()) {
+            boolean fault = faultType != null ? faultType.isInstance(error)
+                    : error instanceof Exception && !(error instanceof RuntimeException);
+            (fault ? metrics.faults : metrics.errors).increment(); }
+        actual.onError(error); }
+
+    @Override public void onComplete() {
+        if (finish()) metrics.completions.increment();
+        actual.onComplete(); }
+
+    @Override public void request(long n) {
+        if (n > 0 && !unbounded && finished == 0) {
+            if (n == Long.MAX_VALUE) {
+                unbounded = true; metrics.unbounded.increment(); metrics.demand.add(-getAndSet(0)); }
+            else metrics.demand.add(add(n)); }
+        subscription.request(n); }
+
+    @Override public void cancel() {
+        if (finish()) metrics.cancellations.increment();
+        subscription.cancel(); }
+
+    @Override public Context currentContext() { return actual.currentContext(); }
+
+    @Override public Object scanUnsafe(Attr key) {
+        if (key == Attr.PARENT) return subscription;
+        if (key == Attr.ACTUAL) return actual;
+        return key == Attr.RUN_STYLE ? Attr.RunStyle.SYNC : null; }
+
+    /**
+     * Add the given demand to the outstanding one, capped at {@code Long.MAX_VALUE}.
+     *
+     * @param n the given demand
+     * @return the demand actually added
+     */
+    private long add(long n) {
+        for (;;) {
+            long current = get(), next = Operators.addCap(current, n);
+            if (compareAndSet(current, next))
+                return next - current; }
+    }
+
+    /**
+     * Record the subscription duration and withdraw its outstanding demand, if not finished yet.
+     *
+     * @return {@code true} if the subscription has not been finished yet
+     */
+    private boolean finish() {
+        if (!FINISHED.compareAndSet(this, 0, 1))
+            return false;
+        metrics.duration.record(System.nanoTime() - start);
+        if (!unbounded) metrics.demand.add(-getAndSet(0));
+        return true;
+    }
+}
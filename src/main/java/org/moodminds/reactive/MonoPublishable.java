@@ -4,26 +4,39 @@ import org.moodminds.function.Executable;
 import org.moodminds.function.Executable1;
 import reactor.core.CoreSubscriber;
 import reactor.core.Disposable;
+import reactor.core.Fuseable;
+import reactor.core.Scannable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
 import reactor.util.context.Context;
 
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * A {@link Mono} implementation of the {@link Publishable} interface.
+ * <p>
+ * The wrapper is transparent for the Reactor's operators: it is {@link Scannable} through the wrapped
+ * {@link Mono}, and the {@link #mono(Mono)} factories keep its {@link Fuseable}, {@link Callable}
+ * and {@link Fuseable.ScalarCallable} nature, so that the macro- and micro-fusion are retained.
  *
  * @param <V> the type of item values
  * @param <E> the type of potential exceptions
  */
-public class MonoPublishable<V, E extends Exception> extends Mono<V> implements Publishable<V, E> {
+public class MonoPublishable<V, E extends Exception> extends Mono<V> implements Publishable<V, E>, Scannable {
 
     /**
      * A wrapped {@link Mono} holder field.
      */
     private final Mono<V> mono;
 
+    /**
+     * A type of the {@link E} exceptions holder field, {@code null} if unknown.
+     */
+    private final Class<E> faultType;
+
     /**
      * Construct the object with the given {@link Mono} instance.
      *
@@ -31,7 +44,18 @@ public class MonoPublishable<V, E extends Exception> extends Mono<V> implements
      * @throws NullPointerException if the {@link Mono} specified is {@code null}
      */
     protected MonoPublishable(Mono<V> mono) {
-        this.mono = requireNonNull(mono);
+        this(mono, null);
+    }
+
+    /**
+     * Construct the object with the given {@link Mono} instance and type of the {@link E} exceptions.
+     *
+     * @param mono      the given {@link Mono} instance
+     * @param faultType the given type of the {@link E} exceptions, or {@code null} if unknown
+     * @throws NullPointerException if the {@link Mono} specified is {@code null}
+     */
+    protected MonoPublishable(Mono<V> mono, Class<E> faultType) {
+        this.mono = requireNonNull(mono); this.faultType = faultType;
     }
 
     /**
@@ -44,6 +68,66 @@ public class MonoPublishable<V, E extends Exception> extends Mono<V> implements
         mono.subscribe(subscriber);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Class<E> faultType() {
+        return faultType;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Object scanUnsafe(Attr key) {
+        return key == Attr.PARENT ? mono : Scannable.from(mono).scanUnsafe(key);
+    }
+
+    /**
+     * Return a MonoPublishable recording the signals of its subscriptions into the {@link SignalMetrics}
+     * of the Reactor's {@link #name() name} of this {@link Mono}, as given by the {@code name(String)} operator.
+     *
+     * @return a MonoPublishable recording the signals of its subscriptions
+     */
+    public MonoPublishable<V, E> instrument() {
+        return instrument(name());
+    }
+
+    /**
+     * Return a MonoPublishable recording the signals of its subscriptions into the {@link SignalMetrics}
+     * of the given name. The {@link Mono}s not instrumented record nothing.
+     *
+     * @param name the given name of the {@link SignalMetrics}
+     * @return a MonoPublishable recording the signals of its subscriptions
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    public MonoPublishable<V, E> instrument(String name) {
+        SignalMetrics metrics = SignalMetrics.metrics(name);
+        return wrap(new MonoOperator<V, V>(mono) {
+            @Override public void subscribe(CoreSubscriber<? super V> actual) {
+                source.subscribe(new MeteredSubscriber<>(actual, metrics, faultType)); }
+        }, faultType);
+    }
+
+    /**
+     * Return a MonoPublishable memoizing the results of this one by the values of the {@link Memoization} keys
+     * in the subscriber's {@link Context}, subscribing to this one once per key for all the concurrent subscribers.
+     * The {@link E} faults are cached if the {@link Memoization} says so, the other errors never.
+     *
+     * @param memoization the given {@link Memoization} policy
+     * @return a MonoPublishable memoizing the results of this one
+     * @throws NullPointerException if the specified {@link Memoization} is {@code null}
+     */
+    public MonoPublishable<V, E> memoize(Memoization memoization) {
+        return wrap(new MemoizingMono<>(this, requireNonNull(memoization)), faultType);
+    }
+
     /**
      * Subscribe a {@link Executable1} to this {@link Mono}, allowing it to consume all the
      * elements in the sequence. This subscription requests an unbounded demand ({@code Long.MAX_VALUE}).
@@ -110,6 +194,119 @@ public class MonoPublishable<V, E extends Exception> extends Mono<V> implements
      * @throws NullPointerException if the {@link Mono} specified is {@code null}
      */
     public static <V, E extends Exception> MonoPublishable<V, E> mono(Mono<V> mono) {
-        return new MonoPublishable<>(mono);
+        return wrap(requireNonNull(mono), null);
+    }
+
+    /**
+     * Return a MonoPublishable by the given {@link Mono} and type of the {@link E} exceptions.
+     *
+     * @param mono the given {@link Mono}
+     * @param faultType the given type of the {@link E} exceptions
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     * @return a MonoPublishable by the given {@link Mono} and type of the {@link E} exceptions
+     * @throws NullPointerException if the {@link Mono} or the type specified is {@code null}
+     */
+    public static <V, E extends Exception> MonoPublishable<V, E> mono(Mono<V> mono, Class<E> faultType) {
+        return wrap(mono, requireNonNull(faultType));
+    }
+
+    /**
+     * Return a MonoPublishable by the given {@link Mono} and type of the {@link E} exceptions,
+     * keeping the {@link Fuseable}, {@link Callable} and {@link Fuseable.ScalarCallable} nature of the {@link Mono}.
+     * <p>
+     * A MonoPublishable given is returned as is if the type is unknown or the same, or rewrapped otherwise,
+     * so that a signal takes a single hop however many times the {@link Mono} is adapted.
+     *
+     * @param mono the given {@link Mono}
+     * @param faultType the given type of the {@link E} exceptions, or {@code null} if unknown
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     * @return a MonoPublishable by the given {@link Mono} and type of the {@link E} exceptions
+     * @throws NullPointerException if the {@link Mono} specified is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> MonoPublishable<V, E> wrap(Mono<V> mono, Class<E> faultType) {
+        if (mono instanceof MonoPublishable) {
+            MonoPublishable<V, ?> publishable = (MonoPublishable<V, ?>) mono;
+            if (faultType == null || faultType == publishable.faultType)
+                return (MonoPublishable<V, E>) publishable;
+            mono = publishable.mono; }
+        if (mono instanceof Fuseable.ScalarCallable)
+            return mono instanceof Fuseable ? new FuseableScalarPublishable<>(mono, faultType)
+                    : new ScalarPublishable<>(mono, faultType);
+        if (mono instanceof Callable)
+            return mono instanceof Fuseable ? new FuseableCallablePublishable<>(mono, faultType)
+                    : new CallablePublishable<>(mono, faultType);
+        return mono instanceof Fuseable ? new FuseablePublishable<>(mono, faultType)
+                : new MonoPublishable<>(mono, faultType);
+    }
+
+
+    /**
+     * A MonoPublishable of the {@link Fuseable} {@link Mono}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class FuseablePublishable<V, E extends Exception> extends MonoPublishable<V, E> implements Fuseable {
+
+        protected FuseablePublishable(Mono<V> mono, Class<E> faultType) { super(mono, faultType); }
+    }
+
+    /**
+     * A MonoPublishable of the {@link Callable} {@link Mono}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class CallablePublishable<V, E extends Exception> extends MonoPublishable<V, E> implements Callable<V> {
+
+        private final Callable<V> callable;
+
+        @SuppressWarnings("unchecked")
+        protected CallablePublishable(Mono<V> mono, Class<E> faultType) {
+            super(mono, faultType); this.callable = (Callable<V>) mono; }
+
+        @Override public V call() throws Exception { return callable.call(); }
+    }
+
+    /**
+     * A MonoPublishable of the {@link Fuseable} {@link Callable} {@link Mono}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class FuseableCallablePublishable<V, E extends Exception> extends CallablePublishable<V, E> implements Fuseable {
+
+        protected FuseableCallablePublishable(Mono<V> mono, Class<E> faultType) { super(mono, faultType); }
+    }
+
+    /**
+     * A MonoPublishable of the {@link Fuseable.ScalarCallable} {@link Mono}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class ScalarPublishable<V, E extends Exception> extends MonoPublishable<V, E> implements Fuseable.ScalarCallable<V> {
+
+        private final Callable<V> callable;
+
+        @SuppressWarnings("unchecked")
+        protected ScalarPublishable(Mono<V> mono, Class<E> faultType) {
+            super(mono, faultType); this.callable = (Callable<V>) mono; }
+
+        @Override public V call() throws Exception { return callable.call(); }
+    }
+
+    /**
+     * A MonoPublishable of the {@link Fuseable} {@link Fuseable.ScalarCallable} {@link Mono}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    protected static class FuseableScalarPublishable<V, E extends Exception> extends ScalarPublishable<V, E> implements Fuseable {
+
+        protected FuseableScalarPublishable(Mono<V> mono, Class<E> faultType) { super(mono, faultType); }
     }
 }
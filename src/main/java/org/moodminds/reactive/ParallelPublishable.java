@@ -0,0 +1,484 @@
+package org.moodminds.reactive;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import org.moodminds.function.Executable1Throwing1;
+import org.moodminds.function.ExecutableThrowing1;
+import org.moodminds.reactive.Publishable.Mapper;
+import org.moodminds.reactive.Publishable.Tester;
+import org.moodminds.reactive.StagePublishable.Stage;
+import org.moodminds.reactive.context.ContextPropagation;
+import org.moodminds.reactive.context.ContextPropagation.Scope;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.ParallelFlux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import static java.util.Objects.requireNonNull;
+import static org.moodminds.reactive.context.ContainerContext.context;
+import static org.moodminds.reactive.context.KeyValueContext.context;
+
+/**
+ * A parallel view of the {@link Publishable}, backed by the Reactor's {@link ParallelFlux}: the items
+ * of the source one are dealt round-robin to the given number of rails, each run on its own worker
+ * of the {@link Scheduler} with the given per-rail prefetch.
+ * <p>
+ * The {@code map} and {@code filter} stages are fused into a single stage run on the rails, and the rails
+ * are either consumed directly by the throwing consumers or merged back into a {@link FluxPublishable}
+ * in the arrival or in the source order. In any case, the first {@link E} fault or error cancels
+ * the other rails and is delivered once, typed by the {@link #faultType() fault type} of the source.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+public final class ParallelPublishable<V, E extends Exception> {
+
+    /**
+     * A source {@link Publishable} holder field.
+     */
+    private final Publishable<Object, E> source;
+
+    /**
+     * The fused stages to run on the rails holder field, {@code null} if none.
+     */
+    private final Stage<Object> stage;
+
+    /**
+     * The number of rails holder field.
+     */
+    private final int rails;
+
+    /**
+     * The number of items prefetched per rail holder field.
+     */
+    private final int prefetch;
+
+    /**
+     * The {@link Scheduler} to run the rails on holder field.
+     */
+    private final Scheduler scheduler;
+
+    /**
+     * Construct the object with the given source {@link Publishable}, stage, number of rails,
+     * prefetch and {@link Scheduler}.
+     *
+     * @param source    the given source {@link Publishable}
+     * @param stage     the given stage, or {@code null} if none
+     * @param rails     the given number of rails
+     * @param prefetch  the given number of items prefetched per rail
+     * @param scheduler the given {@link Scheduler}
+     */
+    private ParallelPublishable(Publishable<Object, E> source, Stage<Object> stage, int rails, int prefetch, Scheduler scheduler) {
+        this.source = source; this.stage = stage; this.rails = rails; this.prefetch = prefetch; this.scheduler = scheduler;
+    }
+
+    /**
+     * Return the number of rails of this ParallelPublishable.
+     *
+     * @return the number of rails of this ParallelPublishable
+     */
+    public int rails() {
+        return rails;
+    }
+
+    /**
+     * Return the number of items prefetched per rail of this ParallelPublishable.
+     *
+     * @return the number of items prefetched per rail of this ParallelPublishable
+     */
+    public int prefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Return the type of the {@link E} exceptions this ParallelPublishable emits, or {@code null} if unknown.
+     *
+     * @return the type of the {@link E} exceptions this ParallelPublishable emits, or {@code null} if unknown
+     */
+    public Class<E> faultType() {
+        return source.faultType();
+    }
+
+    /**
+     * Return a ParallelPublishable of the items of this one mapped on the rails by the given mapper,
+     * whose {@link E} fault terminates the subscription with it.
+     *
+     * @param mapper the given mapper
+     * @param <R>    the type of the mapped values
+     * @return a ParallelPublishable of the items of this one mapped by the given mapper
+     * @throws NullPointerException if the specified mapper is {@code null}
+     */
+    public <R> ParallelPublishable<R, E> map(Mapper<? super V, ? extends R, ? extends E> mapper) {
+        return new ParallelPublishable<>(source, StagePublishable.map(stage, requireNonNull(mapper)), rails, prefetch, scheduler);
+    }
+
+    /**
+     * Return a ParallelPublishable of the items of this one passing the given tester on the rails,
+     * whose {@link E} fault terminates the subscription with it.
+     *
+     * @param tester the given tester
+     * @return a ParallelPublishable of the items of this one passing the given tester
+     * @throws NullPointerException if the specified tester is {@code null}
+     */
+    public ParallelPublishable<V, E> filter(Tester<? super V, ? extends E> tester) {
+        return new ParallelPublishable<>(source, StagePublishable.filter(stage, requireNonNull(tester)), rails, prefetch, scheduler);
+    }
+
+    /**
+     * Return a {@link FluxPublishable} of the items of the rails merged in the order they arrive.
+     *
+     * @return a {@link FluxPublishable} of the items of the rails merged in the order they arrive
+     */
+    @SuppressWarnings("unchecked")
+    public FluxPublishable<V, E> sequential() {
+        ParallelFlux<Object> parallel = parallel(Flux.from(source));
+        if (stage != null)
+            parallel = parallel.map(this::apply).filter(value -> value != StagePublishable.DROPPED);
+        return FluxPublishable.wrap((Flux<V>) parallel.sequential(prefetch), faultType());
+    }
+
+    /**
+     * Return a {@link FluxPublishable} of the items of the rails merged in the order of the source items.
+     * An item is held back until each of the other rails has either an earlier one or none left.
+     *
+     * @return a {@link FluxPublishable} of the items of the rails merged in the order of the source items
+     */
+    @SuppressWarnings("unchecked")
+    public FluxPublishable<V, E> ordered() {
+        ParallelFlux<Indexed> parallel = parallel(Flux.from(source).index(Indexed::new));
+        if (stage != null)
+            parallel = parallel.map(indexed -> indexed.apply(this)).filter(indexed -> indexed.value != StagePublishable.DROPPED);
+        return FluxPublishable.wrap(parallel.ordered(Indexed::compareTo, prefetch).map(indexed -> (V) indexed.value), faultType());
+    }
+
+    /**
+     * Subscribe the given events consumers to the rails, with the item consumer called on the rail threads
+     * concurrently, and the given {@link KeyValue key-value} context.
+     *
+     * @param itemConsumer     the given item consumer, whose {@link E} fault terminates the subscription with it
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor, called once all the rails complete
+     * @param ctx              the given {@link KeyValue key-value} context
+     * @throws NullPointerException is any of the specified events consumers is {@code null}
+     */
+    public void subscribe(Executable1Throwing1<? super V, ? extends E> itemConsumer,
+                          Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                          Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                          ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                          KeyValue<?, ?>... ctx) {
+        subscribe(itemConsumer, faultConsumer, errorConsumer, completeConsumer, context(ctx));
+    }
+
+    /**
+     * Subscribe the given events consumers to the rails, with the item consumer called on the rail threads
+     * concurrently, and the given {@link Association} context.
+     *
+     * @param itemConsumer     the given item consumer, whose {@link E} fault terminates the subscription with it
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor, called once all the rails complete
+     * @param ctx              the given {@link Association} context
+     * @throws NullPointerException is any of the specified events consumers is {@code null}
+     */
+    public void subscribe(Executable1Throwing1<? super V, ? extends E> itemConsumer,
+                          Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                          Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                          ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                          Association<?, ?, ?> ctx) {
+        subscribe(itemConsumer, faultConsumer, errorConsumer, completeConsumer, context(ctx));
+    }
+
+    /**
+     * Subscribe the given events consumers to the rails, with the item consumer called on the rail threads
+     * concurrently, and the given {@link Context}, propagated by the {@link ContextPropagation} around
+     * every consumer call.
+     *
+     * @param itemConsumer     the given item consumer, whose {@link E} fault terminates the subscription with it
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor, called once all the rails complete
+     * @param context          the given {@link Context}
+     * @throws NullPointerException is any of the specified events consumers or the {@link Context} is {@code null}
+     */
+    public void subscribe(Executable1Throwing1<? super V, ? extends E> itemConsumer,
+                          Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                          Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                          ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                          Context context) {
+        requireNonNull(itemConsumer); requireNonNull(errorConsumer); requireNonNull(faultConsumer);
+        requireNonNull(completeConsumer); requireNonNull(context);
+        Rails<V, E> rails = new Rails<>(this.rails, stage, itemConsumer, faultConsumer, errorConsumer,
+                completeConsumer, faultType(), prefetch, context);
+        parallel(Flux.from(source)).subscribe(rails.subscribers);
+    }
+
+    /**
+     * Return the {@link ParallelFlux} of the given {@link Flux} dealt to the rails run on the {@link Scheduler}.
+     *
+     * @param flux the given {@link Flux}
+     * @param <T>  the type of the item values
+     * @return the {@link ParallelFlux} of the given {@link Flux}
+     */
+    private <T> ParallelFlux<T> parallel(Flux<T> flux) {
+        return ParallelFlux.from(flux, rails, prefetch, Queues.get(prefetch)).runOn(scheduler, prefetch);
+    }
+
+    /**
+     * Apply the stage to the given item, propagating its exception unchecked.
+     *
+     * @param item the given item
+     * @return the resulting value, or the dropped marker if the item is filtered out
+     */
+    private Object apply(Object item) {
+        try { return stage.apply(item); }
+        catch (Exception e) { throw Exceptions.propagate(e); }
+    }
+
+    /**
+     * Return a ParallelPublishable of the given source {@link Publishable} dealt to a rail per CPU core,
+     * prefetching {@link Queues#SMALL_BUFFER_SIZE} items per rail, on the {@link Schedulers#parallel()} workers.
+     *
+     * @param source the given source {@link Publishable}
+     * @param <V>    the type of item values
+     * @param <E>    the type of potential exceptions
+     * @return a ParallelPublishable of the given source {@link Publishable}
+     * @throws NullPointerException if the specified source {@link Publishable} is {@code null}
+     */
+    public static <V, E extends Exception> ParallelPublishable<V, E> parallel(Publishable<V, E> source) {
+        return parallel(source, Schedulers.DEFAULT_POOL_SIZE, Queues.SMALL_BUFFER_SIZE);
+    }
+
+    /**
+     * Return a ParallelPublishable of the given source {@link Publishable} dealt to the given number of rails,
+     * prefetching the given number of items per rail, on the {@link Schedulers#parallel()} workers.
+     *
+     * @param source   the given source {@link Publishable}
+     * @param rails    the given number of rails
+     * @param prefetch the given number of items prefetched per rail
+     * @param <V>      the type of item values
+     * @param <E>      the type of potential exceptions
+     * @return a ParallelPublishable of the given source {@link Publishable}
+     * @throws NullPointerException     if the specified source {@link Publishable} is {@code null}
+     * @throws IllegalArgumentException if the specified number of rails or prefetch is not positive
+     */
+    public static <V, E extends Exception> ParallelPublishable<V, E> parallel(Publishable<V, E> source, int rails, int prefetch) {
+        return parallel(source, rails, prefetch, Schedulers.parallel());
+    }
+
+    /**
+     * Return a ParallelPublishable of the given source {@link Publishable} dealt to the given number of rails,
+     * prefetching the given number of items per rail, on the given {@link Executor}.
+     *
+     * @param source   the given source {@link Publishable}
+     * @param rails    the given number of rails
+     * @param prefetch the given number of items prefetched per rail
+     * @param executor the given {@link Executor} to run the rails on
+     * @param <V>      the type of item values
+     * @param <E>      the type of potential exceptions
+     * @return a ParallelPublishable of the given source {@link Publishable}
+     * @throws NullPointerException     if the specified source {@link Publishable} or {@link Executor} is {@code null}
+     * @throws IllegalArgumentException if the specified number of rails or prefetch is not positive
+     */
+    public static <V, E extends Exception> ParallelPublishable<V, E> parallel(Publishable<V, E> source, int rails, int prefetch, Executor executor) {
+        return parallel(source, rails, prefetch, Schedulers.fromExecutor(requireNonNull(executor)));
+    }
+
+    /**
+     * Return a ParallelPublishable of the given source {@link Publishable}, number of rails, prefetch
+     * and {@link Scheduler}.
+     *
+     * @param source    the given source {@link Publishable}
+     * @param rails     the given number of rails
+     * @param prefetch  the given number of items prefetched per rail
+     * @param scheduler the given {@link Scheduler}
+     * @param <V>       the type of item values
+     * @param <E>       the type of potential exceptions
+     * @return a ParallelPublishable of the given source {@link Publishable}
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> ParallelPublishable<V, E> parallel(Publishable<V, E> source, int rails, int prefetch, Scheduler scheduler) {
+        requireNonNull(source);
+        if (rails <= 0)
+            throw new IllegalArgumentException("Rails must be positive: " + rails);
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("Prefetch must be positive: " + prefetch);
+        return new ParallelPublishable<>((Publishable<Object, E>) source, null, rails, prefetch, scheduler);
+    }
+
+
+    /**
+     * A source item paired with its index, carrying the stage result in place through a rail.
+     */
+    private static final class Indexed implements Comparable<Indexed> {
+
+        private final long index;
+        private Object value;
+
+        Indexed(long index, Object value) {
+            this.index = index; this.value = value;
+        }
+
+        Indexed apply(ParallelPublishable<?, ?> parallel) {
+            value = parallel.apply(value); return this; }
+
+        @Override public int compareTo(Indexed other) { return Long.compare(index, other.index); }
+    }
+
+    /**
+     * The shared state of the rail subscribers: the number of rails yet to complete and the terminal flag,
+     * set by the first terminal event delivered, cancelling the other rails.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    private static final class Rails<V, E extends Exception> extends AtomicInteger {
+
+        private static final long serialVersionUID = 842816649315110494L;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Rails> TERMINATED
+                = AtomicIntegerFieldUpdater.newUpdater(Rails.class, "terminated");
+
+        private final Executable1Throwing1<? super V, ? extends E> itemConsumer;
+        private final Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer;
+        private final Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer;
+        private final ExecutableThrowing1<? extends RuntimeException> completeConsumer;
+        private final Class<E> faultType;
+        private final Stage<Object> stage;
+        private final Context context;
+
+        final Rail[] subscribers;
+
+        volatile int terminated;
+
+        Rails(int rails, Stage<Object> stage,
+              Executable1Throwing1<? super V, ? extends E> itemConsumer,
+              Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+              Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+              ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+              Class<E> faultType, int prefetch, Context context) {
+            super(rails); this.stage = stage;
+            this.itemConsumer = itemConsumer; this.faultConsumer = faultConsumer;
+            this.errorConsumer = errorConsumer; this.completeConsumer = completeConsumer;
+            this.faultType = faultType; this.context = context;
+            this.subscribers = new Rail[rails];
+            for (int i = 0; i < rails; i++)
+                subscribers[i] = new Rail(this, prefetch);
+        }
+
+        /**
+         * Consume the given item on a rail, applying the stage to it, the consumer being called
+         * within the given {@link Scope} of the rail, if any.
+         *
+         * @param item  the given item
+         * @param scope the given {@link Scope} of the rail, or {@code null} if none
+         * @throws Exception in case of the {@link E} fault or any other exception thrown by the stage or consumer
+         */
+        @SuppressWarnings("unchecked")
+        void next(Object item, Scope scope) throws Exception {
+            Object value = stage != null ? stage.apply(item) : item;
+            if (value == StagePublishable.DROPPED) return;
+            if (scope == null) itemConsumer.exec((V) value);
+            else { long opened = scope.open();
+                try { itemConsumer.exec((V) value); } finally { scope.close(opened); } }
+        }
+
+        /**
+         * Terminate the rails with the given error, delivering it to the fault or error consumer
+         * within the given {@link Scope} of the rail, if it is the first terminal event.
+         *
+         * @param error the given error
+         * @param scope the given {@link Scope} of the rail, or {@code null} if none
+         */
+        void fail(Throwable error, Scope scope) {
+            if (!TERMINATED.compareAndSet(this, 0, 1)) {
+                Operators.onErrorDropped(error, context); return; }
+            for (Rail rail : subscribers) rail.cancel();
+            if (scope == null) dispatch(error);
+            else { long opened = scope.open();
+                try { dispatch(error); } finally { scope.close(opened); } }
+        }
+
+        /**
+         * Account the completion of a rail, delivering the completion event within the given {@link Scope}
+         * of the rail once all the rails complete.
+         *
+         * @param scope the given {@link Scope} of the rail, or {@code null} if none
+         */
+        void complete(Scope scope) {
+            if (decrementAndGet() != 0 || !TERMINATED.compareAndSet(this, 0, 1)) return;
+            if (scope == null) completeConsumer.exec();
+            else { long opened = scope.open();
+                try { completeConsumer.exec(); } finally { scope.close(opened); } }
+        }
+
+        /**
+         * Deliver the given error to the fault or error consumer.
+         *
+         * @param error the given error
+         */
+        @SuppressWarnings("unchecked")
+        private void dispatch(Throwable error) {
+            if (faultType != null) {
+                if (faultType.isInstance(error)) faultConsumer.exec((E) error);
+                else errorConsumer.exec(error); }
+            else try { faultConsumer.exec((E) error); }
+            catch (ClassCastException e) { errorConsumer.exec(error); }
+        }
+    }
+
+    /**
+     * A subscriber of a single rail, consuming its items on the rail's thread within its own
+     * {@link ContextPropagation} {@link Scope}, if any, as the rails run concurrently.
+     */
+    private static final class Rail implements CoreSubscriber<Object> {
+
+        private final Rails<?, ?> rails;
+        private final Scope scope;
+        private final int prefetch;
+        private final int limit;
+
+        private volatile Subscription subscription;
+        private int consumed;
+
+        Rail(Rails<?, ?> rails, int prefetch) {
+            this.rails = rails; this.scope = ContextPropagation.scope(rails.context);
+            this.prefetch = prefetch; this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            if (Operators.validate(this.subscription, subscription)) {
+                this.subscription = subscription;
+                if (rails.terminated != 0) subscription.cancel();
+                else subscription.request(prefetch); } }
+
+        @Override public void onNext(Object item) {
+            if (rails.terminated != 0) return;
+            try { rails.next(item, scope); }
+            catch (Throwable e) {
+                Exceptions.throwIfFatal(e); rails.fail(e, scope); return; }
+            if (++consumed == limit) {
+                consumed = 0; subscription.request(limit); } }
+
+        @Override public void onError(Throwable error) { rails.fail(error, scope); }
+
+        @Override public void onComplete() { rails.complete(scope); }
+
+        @Override public Context currentContext() { return rails.context; }
+
+        void cancel() {
+            Subscription subscription = this.subscription;
+            if (subscription != null) subscription.cancel(); }
+    }
+}
@@ -3,19 +3,32 @@ package org.moodminds.reactive;
 import org.moodminds.elemental.Association;
 import org.moodminds.elemental.Container;
 import org.moodminds.elemental.KeyValue;
-import org.moodminds.reactive.context.WrapContext;
 import org.moodminds.function.Executable1Throwing1;
 import org.moodminds.function.ExecutableThrowing1;
+import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import reactor.core.CorePublisher;
 import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toMap;
-import static org.moodminds.elemental.ArraySequence.sequence;
 import static org.moodminds.function.Executable1Throwing1.idle;
-import static reactor.util.context.Context.of;
+import static org.moodminds.reactive.context.ContainerContext.context;
+import static org.moodminds.reactive.context.KeyValueContext.context;
+import static org.moodminds.reactive.context.WrapContext.wrap;
 
 /**
  * An extension of the {@link SubscribeSupport} interface, this class is a specialized {@link CorePublisher}
@@ -47,7 +60,7 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      */
     @Override
     default void subscribe(org.reactivestreams.Subscriber<? super V> subscriber, KeyValue<?, ?>... ctx) {
-        subscribe((CoreSubscriber<? super V>) subscriber(subscriber, sequence(ctx)));
+        subscribe((CoreSubscriber<? super V>) subscriber(subscriber, context(ctx)));
     }
 
     /**
@@ -59,7 +72,7 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      */
     @Override
     default void subscribe(SubscribeSupport.Subscriber<? super V, ? super E> subscriber, KeyValue<?, ?>... ctx) {
-        subscribe((CoreSubscriber<? super V>) subscriber(subscriber, sequence(ctx)));
+        subscribe((CoreSubscriber<? super V>) subscriber(subscriber, faultType(), context(ctx)));
     }
 
     /**
@@ -83,7 +96,7 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      */
     @Override
     default void subscribe(SubscribeSupport.Subscriber<? super V, ? super E> subscriber, Association<?, ?, ?> ctx) {
-        subscribe((CoreSubscriber<? super V>) subscriber(subscriber, ctx));
+        subscribe((CoreSubscriber<? super V>) subscriber(subscriber, faultType(), ctx));
     }
 
     /**
@@ -217,7 +230,7 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
                            KeyValue<?, ?>... ctx) {
         requireNonNull(itemConsumer); requireNonNull(errorConsumer);
         requireNonNull(faultConsumer); requireNonNull(completeConsumer);
-        subscribe((CoreSubscriber<? super V>) subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, sequence(ctx)));
+        subscribe((CoreSubscriber<? super V>) subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), context(ctx)));
     }
 
     /**
@@ -237,7 +250,360 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
                            Association<?, ?, ?> ctx) {
         requireNonNull(itemConsumer); requireNonNull(errorConsumer);
         requireNonNull(faultConsumer); requireNonNull(completeConsumer);
-        subscribe((CoreSubscriber<? super V>) subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, ctx));
+        subscribe((CoreSubscriber<? super V>) subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), ctx));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified events consumers, {@link Demand}
+     * and {@link KeyValue key-value array context}.
+     *
+     * @param itemConsumer     the given item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param demand           the given {@link Demand} to request items by
+     * @param ctx              the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if any of the specified events consumers or {@link Demand} is {@code null}
+     */
+    default void subscribe(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                           Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                           Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                           ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                           Demand demand, KeyValue<?, ?>... ctx) {
+        subscribe((CoreSubscriber<? super V>) subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), demand, context(ctx)));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified events consumers, {@link Demand} and {@link Association context}.
+     *
+     * @param itemConsumer     the given item consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param demand           the given {@link Demand} to request items by
+     * @param ctx              the given {@link Association context}
+     * @throws NullPointerException if any of the specified events consumers, {@link Demand}
+     *                              or {@link Association context} is {@code null}
+     */
+    default void subscribe(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                           Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                           Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                           ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                           Demand demand, Association<?, ?, ?> ctx) {
+        subscribe((CoreSubscriber<? super V>) subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), demand, context(ctx)));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link Chunk} consumer and {@link KeyValue key-value array context},
+     * delivering the items in chunks of the given maximum size.
+     *
+     * @param chunkConsumer the given {@link Chunk} consumer
+     * @param maxSize       the given maximum size of a {@link Chunk}
+     * @param ctx           the given {@link KeyValue key-value array context}
+     * @throws NullPointerException     if the specified {@link Chunk} consumer is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    default void subscribeChunked(Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer,
+                                  int maxSize, KeyValue<?, ?>... ctx) {
+        subscribeChunked(chunkConsumer, idle(), idle(), ExecutableThrowing1.idle(), maxSize, null, ctx);
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link Chunk} consumer and {@link Association context},
+     * delivering the items in chunks of the given maximum size.
+     *
+     * @param chunkConsumer the given {@link Chunk} consumer
+     * @param maxSize       the given maximum size of a {@link Chunk}
+     * @param ctx           the given {@link Association context}
+     * @throws NullPointerException     if the specified {@link Chunk} consumer or {@link Association context} is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    default void subscribeChunked(Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer,
+                                  int maxSize, Association<?, ?, ?> ctx) {
+        subscribeChunked(chunkConsumer, idle(), idle(), ExecutableThrowing1.idle(), maxSize, null, ctx);
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified events consumers and {@link KeyValue key-value array context},
+     * delivering the items in chunks of the given maximum size, flushed on the given time limit since the first item of a chunk.
+     *
+     * @param chunkConsumer    the given {@link Chunk} consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param maxSize          the given maximum size of a {@link Chunk}
+     * @param maxTime          the given time limit of a {@link Chunk}, or {@code null} if unlimited
+     * @param ctx              the given {@link KeyValue key-value array context}
+     * @throws NullPointerException     if any of the specified events consumers is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    default void subscribeChunked(Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer,
+                                  Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                  Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                  ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                  int maxSize, Duration maxTime, KeyValue<?, ?>... ctx) {
+        subscribe((CoreSubscriber<? super V>) chunkSubscriber(chunkConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), maxSize, maxTime, context(ctx)));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified events consumers and {@link Association context},
+     * delivering the items in chunks of the given maximum size, flushed on the given time limit since the first item of a chunk.
+     *
+     * @param chunkConsumer    the given {@link Chunk} consumer
+     * @param faultConsumer    the given {@link E} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param maxSize          the given maximum size of a {@link Chunk}
+     * @param maxTime          the given time limit of a {@link Chunk}, or {@code null} if unlimited
+     * @param ctx              the given {@link Association context}
+     * @throws NullPointerException     if any of the specified events consumers or {@link Association context} is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    default void subscribeChunked(Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer,
+                                  Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                  Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                  ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                  int maxSize, Duration maxTime, Association<?, ?, ?> ctx) {
+        subscribe((CoreSubscriber<? super V>) chunkSubscriber(chunkConsumer, faultConsumer, errorConsumer, completeConsumer, faultType(), maxSize, maxTime, context(ctx)));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link KeyValue key-value array context},
+     * returning a {@link BlockingIterator} over its items, prefetching {@link Queues#SMALL_BUFFER_SIZE} of them.
+     *
+     * @param ctx the given {@link KeyValue key-value array context}
+     * @return a {@link BlockingIterator} over the items of this Publishable
+     */
+    default BlockingIterator<V, E> toIterator(KeyValue<?, ?>... ctx) {
+        return toIterator(Queues.SMALL_BUFFER_SIZE, ctx);
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link KeyValue key-value array context},
+     * returning a {@link BlockingIterator} over its items, prefetching the given number of them
+     * and requesting more by a batch once 75% of it is consumed.
+     *
+     * @param prefetch the given number of items to prefetch
+     * @param ctx      the given {@link KeyValue key-value array context}
+     * @return a {@link BlockingIterator} over the items of this Publishable
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    default BlockingIterator<V, E> toIterator(int prefetch, KeyValue<?, ?>... ctx) {
+        return QueueIterator.iterator(this, prefetch, context(ctx));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link Association context},
+     * returning a {@link BlockingIterator} over its items, prefetching the given number of them
+     * and requesting more by a batch once 75% of it is consumed.
+     *
+     * @param prefetch the given number of items to prefetch
+     * @param ctx      the given {@link Association context}
+     * @return a {@link BlockingIterator} over the items of this Publishable
+     * @throws NullPointerException     if the specified {@link Association context} is {@code null}
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    default BlockingIterator<V, E> toIterator(int prefetch, Association<?, ?, ?> ctx) {
+        return QueueIterator.iterator(this, prefetch, context(ctx));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link KeyValue key-value array context},
+     * returning a sequential {@link Stream} of its items, prefetching {@link Queues#SMALL_BUFFER_SIZE} of them.
+     * The {@link E} fault is rethrown by the {@link Stream} operations undeclared, as is; closing
+     * the {@link Stream} cancels the subscription.
+     *
+     * @param ctx the given {@link KeyValue key-value array context}
+     * @return a {@link Stream} of the items of this Publishable
+     */
+    default Stream<V> toStream(KeyValue<?, ?>... ctx) {
+        return toStream(Queues.SMALL_BUFFER_SIZE, ctx);
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link KeyValue key-value array context},
+     * returning a sequential {@link Stream} of its items, prefetching the given number of them.
+     * The {@link E} fault is rethrown by the {@link Stream} operations undeclared, as is; closing
+     * the {@link Stream} cancels the subscription.
+     *
+     * @param prefetch the given number of items to prefetch
+     * @param ctx      the given {@link KeyValue key-value array context}
+     * @return a {@link Stream} of the items of this Publishable
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    default Stream<V> toStream(int prefetch, KeyValue<?, ?>... ctx) {
+        return QueueIterator.iterator(this, prefetch, context(ctx)).stream();
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link Association context},
+     * returning a sequential {@link Stream} of its items, prefetching the given number of them.
+     * The {@link E} fault is rethrown by the {@link Stream} operations undeclared, as is; closing
+     * the {@link Stream} cancels the subscription.
+     *
+     * @param prefetch the given number of items to prefetch
+     * @param ctx      the given {@link Association context}
+     * @return a {@link Stream} of the items of this Publishable
+     * @throws NullPointerException     if the specified {@link Association context} is {@code null}
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    default Stream<V> toStream(int prefetch, Association<?, ?, ?> ctx) {
+        return QueueIterator.iterator(this, prefetch, context(ctx)).stream();
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link KeyValue key-value array context},
+     * applying the given function to a sequential {@link Stream} of its items, which is closed afterwards,
+     * so that the {@link E} fault is declared to be thrown.
+     *
+     * @param function the given {@link Stream} function
+     * @param ctx      the given {@link KeyValue key-value array context}
+     * @param <R>      the type of the function result
+     * @return the result of the given function
+     * @throws E                    in case of the fault of this Publishable
+     * @throws NullPointerException if the specified function is {@code null}
+     */
+    default <R> R toStream(Function<? super Stream<V>, ? extends R> function, KeyValue<?, ?>... ctx) throws E {
+        requireNonNull(function);
+        try (Stream<V> stream = toStream(ctx)) {
+            return function.apply(stream); }
+    }
+
+    /**
+     * Return a {@link FluxPublishable} subscribing to this Publishable by a task of the given {@link Executor},
+     * so that a source blocking on subscription does not hold the caller's thread.
+     *
+     * @param executor the given {@link Executor}, e.g. the {@link BlockingExecutors#executor()}
+     * @return a {@link FluxPublishable} subscribing to this Publishable on the given {@link Executor}
+     * @throws NullPointerException if the specified {@link Executor} is {@code null}
+     */
+    default FluxPublishable<V, E> subscribeOn(Executor executor) {
+        return FluxPublishable.wrap(Flux.from(this).subscribeOn(Schedulers.fromExecutor(requireNonNull(executor))), faultType());
+    }
+
+    /**
+     * Return a {@link FluxPublishable} delivering the events of this Publishable to the subscriber by the tasks
+     * of the given {@link Executor}, serialized per subscription, so that the blocking item consumers
+     * do not hold the Reactor's threads.
+     *
+     * @param executor the given {@link Executor}, e.g. the {@link BlockingExecutors#executor()}
+     * @return a {@link FluxPublishable} delivering the events of this Publishable on the given {@link Executor}
+     * @throws NullPointerException if the specified {@link Executor} is {@code null}
+     */
+    default FluxPublishable<V, E> publishOn(Executor executor) {
+        return FluxPublishable.wrap(Flux.from(this).publishOn(Schedulers.fromExecutor(requireNonNull(executor))), faultType());
+    }
+
+    /**
+     * Return a Publishable of the items of this one mapped by the given mapper, whose {@link E} fault
+     * terminates the subscription with it. The adjacent {@code mapChecked} and {@code filterChecked} stages
+     * are fused into a single subscriber.
+     *
+     * @param mapper the given mapper
+     * @param <R>    the type of the mapped values
+     * @return a Publishable of the items of this one mapped by the given mapper
+     * @throws NullPointerException if the specified mapper is {@code null}
+     */
+    default <R> Publishable<R, E> mapChecked(Mapper<? super V, ? extends R, ? extends E> mapper) {
+        return new StagePublishable<>(this, StagePublishable.map(null, requireNonNull(mapper)));
+    }
+
+    /**
+     * Return a Publishable of the items of this one passing the given tester, whose {@link E} fault
+     * terminates the subscription with it. The adjacent {@code mapChecked} and {@code filterChecked} stages
+     * are fused into a single subscriber.
+     *
+     * @param tester the given tester
+     * @return a Publishable of the items of this one passing the given tester
+     * @throws NullPointerException if the specified tester is {@code null}
+     */
+    default Publishable<V, E> filterChecked(Tester<? super V, ? extends E> tester) {
+        return new StagePublishable<>(this, StagePublishable.filter(null, requireNonNull(tester)));
+    }
+
+    /**
+     * Return a Publishable of the items of the {@link Publisher}s the items of this one are mapped to
+     * by the given mapper, merged as they arrive. The {@link E} fault of the mapper terminates the subscription with it.
+     *
+     * @param mapper the given mapper
+     * @param <R>    the type of the merged items
+     * @return a Publishable of the items of the {@link Publisher}s the items of this one are mapped to
+     * @throws NullPointerException if the specified mapper is {@code null}
+     */
+    default <R> Publishable<R, E> flatMapChecked(Mapper<? super V, ? extends Publisher<? extends R>, ? extends E> mapper) {
+        requireNonNull(mapper); return FluxPublishable.wrap(Flux.from(this).flatMap(item -> {
+            try { return mapper.map(item); }
+            catch (Exception e) { return Flux.error(e); } }), faultType());
+    }
+
+    /**
+     * Return a Publishable of the single value reduced from the items of this one by the given reducer,
+     * seeded by the first item, or of no value if this one is empty. The {@link E} fault of the reducer
+     * terminates the subscription with it.
+     *
+     * @param reducer the given reducer
+     * @return a Publishable of the single value reduced from the items of this one
+     * @throws NullPointerException if the specified reducer is {@code null}
+     */
+    default Publishable<V, E> reduceChecked(Reducer<V, ? super V, ? extends E> reducer) {
+        return new ReducePublishable<>(this, null, requireNonNull(reducer));
+    }
+
+    /**
+     * Return a Publishable of the single value reduced from the items of this one by the given reducer,
+     * starting from the given seed. The {@link E} fault of the reducer terminates the subscription with it.
+     *
+     * @param seed    the given seed
+     * @param reducer the given reducer
+     * @param <A>     the type of the reduced value
+     * @return a Publishable of the single value reduced from the items of this one
+     * @throws NullPointerException if the specified seed or reducer is {@code null}
+     */
+    default <A> Publishable<A, E> reduceChecked(A seed, Reducer<A, ? super V, ? extends E> reducer) {
+        requireNonNull(seed); return new ReducePublishable<>(this, () -> seed, requireNonNull(reducer));
+    }
+
+    /**
+     * Return a Publishable of the single container, supplied per subscription, the items of this one
+     * are accumulated into by the given accumulator. The {@link E} fault of the accumulator
+     * terminates the subscription with it.
+     *
+     * @param container   the given container {@link Supplier}
+     * @param accumulator the given accumulator
+     * @param <C>         the type of the container
+     * @return a Publishable of the single container the items of this one are accumulated into
+     * @throws NullPointerException if the specified container {@link Supplier} or accumulator is {@code null}
+     */
+    default <C> Publishable<C, E> collectChecked(Supplier<? extends C> container, Accumulator<? super C, ? super V, ? extends E> accumulator) {
+        requireNonNull(accumulator); return new ReducePublishable<>(this, requireNonNull(container),
+                (C collected, V item) -> { accumulator.accumulate(collected, item); return collected; });
+    }
+
+    /**
+     * Return a Publishable sharing a single subscription to this one among all its subscribers, connected
+     * by the first of them, replaying the late ones the latest items kept in a ring buffer of the given
+     * history size rounded up to a power of two. Each subscriber has its own demand, while this Publishable
+     * is requested no further than the ring size ahead of the slowest one. The terminal {@link E} fault or
+     * error is delivered to every subscriber as is.
+     *
+     * @param history the given minimum number of the latest items to keep
+     * @return a Publishable sharing a single subscription to this one
+     * @throws IllegalArgumentException if the specified history size is not positive
+     */
+    default Publishable<V, E> multicast(int history) {
+        if (history <= 0)
+            throw new IllegalArgumentException("History must be positive: " + history);
+        return new ReplayPublishable<>(this, history);
+    }
+
+    /**
+     * Return the type of the {@link E} exceptions this Publishable emits, which tells them
+     * from the other errors with no {@link ClassCastException} thrown, or {@code null} if unknown.
+     *
+     * @return the type of the {@link E} exceptions this Publishable emits, or {@code null} if unknown
+     */
+    default Class<E> faultType() {
+        return null;
     }
 
 
@@ -249,6 +615,86 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      */
     interface Subscriber<V, E extends Exception> extends CoreSubscriber<V>, SubscribeSupport.Subscriber<V, E> {}
 
+    /**
+     * A function mapping an item to a value, throwing the {@link E} fault.
+     *
+     * @param <V> the type of items
+     * @param <R> the type of the mapped values
+     * @param <E> the type of exceptions
+     */
+    @FunctionalInterface
+    interface Mapper<V, R, E extends Exception> {
+
+        /**
+         * Map the given item.
+         *
+         * @param item the given item
+         * @return the mapped value
+         * @throws E in case of the fault
+         */
+        R map(V item) throws E;
+    }
+
+    /**
+     * A predicate testing an item, throwing the {@link E} fault.
+     *
+     * @param <V> the type of items
+     * @param <E> the type of exceptions
+     */
+    @FunctionalInterface
+    interface Tester<V, E extends Exception> {
+
+        /**
+         * Test the given item.
+         *
+         * @param item the given item
+         * @return {@code true} if the item passes
+         * @throws E in case of the fault
+         */
+        boolean test(V item) throws E;
+    }
+
+    /**
+     * A function reducing the accumulated value with an item, throwing the {@link E} fault.
+     *
+     * @param <A> the type of the accumulated value
+     * @param <V> the type of items
+     * @param <E> the type of exceptions
+     */
+    @FunctionalInterface
+    interface Reducer<A, V, E extends Exception> {
+
+        /**
+         * Reduce the given accumulated value with the given item.
+         *
+         * @param accumulated the given accumulated value
+         * @param item        the given item
+         * @return the new accumulated value
+         * @throws E in case of the fault
+         */
+        A reduce(A accumulated, V item) throws E;
+    }
+
+    /**
+     * A consumer accumulating an item into a container, throwing the {@link E} fault.
+     *
+     * @param <C> the type of the container
+     * @param <V> the type of items
+     * @param <E> the type of exceptions
+     */
+    @FunctionalInterface
+    interface Accumulator<C, V, E extends Exception> {
+
+        /**
+         * Accumulate the given item into the given container.
+         *
+         * @param container the given container
+         * @param item      the given item
+         * @throws E in case of the fault
+         */
+        void accumulate(C container, V item) throws E;
+    }
+
 
     /**
      * Return a Subscriber by the given {@link SubscribeSupport.Subscriber}
@@ -264,13 +710,69 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      *                              or the {@link Container} context is {@code null}
      */
     static <V, E extends Exception> Subscriber<V, E> subscriber(SubscribeSupport.Subscriber<? super V, ? super E> subscriber, Container<? extends KeyValue<?, ?>> ctx) {
-        requireNonNull(subscriber); Context context = of(ctx.stream().collect(toMap(KeyValue::getKey, KeyValue::getValue)));
+        requireNonNull(subscriber); return subscriber(subscriber, null, context(ctx));
+    }
+
+    /**
+     * Return a Subscriber by the given {@link SubscribeSupport.Subscriber} and {@link Context}.
+     *
+     * @param subscriber the given {@link SubscribeSupport.Subscriber}
+     * @param context    the given {@link Context}
+     * @param <V>        the type of items to consume
+     * @param <E>        the type of exceptions to consume
+     * @return a Subscriber by the given {@link SubscribeSupport.Subscriber} and {@link Context}
+     * @throws NullPointerException is the specified {@link SubscribeSupport.Subscriber}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(SubscribeSupport.Subscriber<? super V, ? super E> subscriber, Context context) {
+        return subscriber(subscriber, null, context);
+    }
+
+    /**
+     * Return a Subscriber by the given {@link SubscribeSupport.Subscriber}, fault type
+     * and {@link Container} of {@link KeyValue key-values} context.
+     *
+     * @param subscriber the given {@link SubscribeSupport.Subscriber}
+     * @param faultType  the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param ctx        the given {@link Container} of {@link KeyValue key-values} context
+     * @param <V>        the type of items to consume
+     * @param <E>        the type of exceptions to consume
+     * @return a Subscriber by the given {@link SubscribeSupport.Subscriber}, fault type
+     * and {@link Container} of {@link KeyValue key-values} context
+     * @throws NullPointerException is the specified {@link SubscribeSupport.Subscriber}
+     *                              or the {@link Container} context is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(SubscribeSupport.Subscriber<? super V, ? super E> subscriber, Class<E> faultType, Container<? extends KeyValue<?, ?>> ctx) {
+        requireNonNull(subscriber); return subscriber(subscriber, faultType, context(ctx));
+    }
+
+    /**
+     * Return a Subscriber by the given {@link SubscribeSupport.Subscriber}, fault type and {@link Context}.
+     * <p>
+     * Having the fault type known, the {@link E} errors are told from the other ones by a single
+     * {@link Class#isInstance(Object)} check. Otherwise, an error is cast and passed as {@link E}
+     * and the {@link ClassCastException}, if thrown, redirects it as a {@link Throwable}.
+     *
+     * @param subscriber the given {@link SubscribeSupport.Subscriber}
+     * @param faultType  the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param context    the given {@link Context}
+     * @param <V>        the type of items to consume
+     * @param <E>        the type of exceptions to consume
+     * @return a Subscriber by the given {@link SubscribeSupport.Subscriber}, fault type and {@link Context}
+     * @throws NullPointerException is the specified {@link SubscribeSupport.Subscriber}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(SubscribeSupport.Subscriber<? super V, ? super E> subscriber, Class<E> faultType, Context context) {
+        requireNonNull(subscriber); requireNonNull(context);
         return new Subscriber<V, E>() {
             @Override public void onSubscribe(org.reactivestreams.Subscription s) { subscriber.onSubscribe(s); }
             @Override public void onNext(V v) { subscriber.onNext(v); }
             @Override public void onError(E error) { subscriber.onError(error); }
             @Override @SuppressWarnings("unchecked") public void onError(Throwable error) {
-                try { subscriber.onError((E) error); }
+                if (faultType != null) {
+                    if (faultType.isInstance(error)) subscriber.onError((E) error);
+                    else subscriber.onError(error); }
+                else try { subscriber.onError((E) error); }
                 catch (ClassCastException e) { subscriber.onError(error); } }
             @Override public void onComplete() { subscriber.onComplete(); }
             @Override public Context currentContext() { return context; }
@@ -291,7 +793,22 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      *                              or the {@link Container} context is {@code null}
      */
     static <V, E extends Exception> Subscriber<V, E> subscriber(org.reactivestreams.Subscriber<? super V> subscriber, Container<? extends KeyValue<?, ?>> ctx) {
-        requireNonNull(subscriber); Context context = of(ctx.stream().collect(toMap(KeyValue::getKey, KeyValue::getValue)));
+        requireNonNull(subscriber); return subscriber(subscriber, context(ctx));
+    }
+
+    /**
+     * Return a Subscriber by the given {@link org.reactivestreams.Subscriber} and {@link Context}.
+     *
+     * @param subscriber the given {@link org.reactivestreams.Subscriber}
+     * @param context    the given {@link Context}
+     * @param <V>        the type of items to consume
+     * @param <E>        the type of exceptions to consume
+     * @return a Subscriber by the given {@link org.reactivestreams.Subscriber} and {@link Context}
+     * @throws NullPointerException is the specified {@link org.reactivestreams.Subscriber}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(org.reactivestreams.Subscriber<? super V> subscriber, Context context) {
+        requireNonNull(subscriber); requireNonNull(context);
         return new Subscriber<V, E>() {
             @Override public void onSubscribe(org.reactivestreams.Subscription s) { subscriber.onSubscribe(s); }
             @Override public void onNext(V v) { subscriber.onNext(v); }
@@ -303,7 +820,7 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
     }
 
     /**
-     * Return a Subscriber by the given {@link CoreSubscriber}.
+     * Return a Subscriber by the given {@link CoreSubscriber}, or the {@link CoreSubscriber} itself if it is a Subscriber.
      *
      * @param subscriber the given {@link CoreSubscriber}
      * @param <V>        the type of items to consume
@@ -311,8 +828,11 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      * @return a Subscriber by the given {@link CoreSubscriber}
      * @throws NullPointerException is the specified {@link CoreSubscriber} is {@code null}
      */
+    @SuppressWarnings("unchecked")
     static <V, E extends Exception> Subscriber<V, E> subscriber(CoreSubscriber<V> subscriber) {
-        requireNonNull(subscriber); return new Subscriber<V, E>() {
+        if (requireNonNull(subscriber) instanceof Subscriber)
+            return (Subscriber<V, E>) subscriber;
+        return new Subscriber<V, E>() {
             @Override public void onSubscribe(Subscription s) { subscriber.onSubscribe(s); }
             @Override public void onNext(V v) { subscriber.onNext(v); }
             @Override public void onError(E error) { subscriber.onError(error); }
@@ -343,17 +863,138 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
                                                                 Container<? extends KeyValue<?, ?>> ctx) {
         requireNonNull(itemConsumer); requireNonNull(errorConsumer);
         requireNonNull(faultConsumer); requireNonNull(completeConsumer);
-        Context context = of(ctx.stream().collect(toMap(KeyValue::getKey, KeyValue::getValue)));
-        return new Subscriber<V, E>() {
-            @Override public void onSubscribe(Subscription subscription) { subscription.request(Long.MAX_VALUE); }
-            @Override public void onNext(V item) { itemConsumer.exec(item); }
-            @Override public void onError(E error) { faultConsumer.exec(error); }
-            @Override @SuppressWarnings("unchecked") public void onError(Throwable error) {
-                try { faultConsumer.exec((E) error); }
-                catch (ClassCastException e) { errorConsumer.exec(error); } }
-            @Override public void onComplete() { completeConsumer.exec(); }
-            @Override public Context currentContext() { return context; }
-        };
+        return subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, null, context(ctx));
+    }
+
+    /**
+     * Return a Subscriber by the given events consumers and {@link Context}.
+     *
+     * @param itemConsumer     the given item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param context          the given {@link Context}
+     * @param <V>              the type of items to consume
+     * @param <E>              the type of exceptions to consume
+     * @return a Subscriber by the given events consumers and {@link Context}
+     * @throws NullPointerException is any of the specified events consumers or the {@link Context} is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                                                                Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                                Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                                ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                                Context context) {
+        return subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, null, context);
+    }
+
+    /**
+     * Return a Subscriber by the given events consumers, fault type and {@link Container}
+     * of {@link KeyValue key-values} context.
+     *
+     * @param itemConsumer     the given item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param ctx              the given {@link Container} of {@link KeyValue key-value} context
+     * @param <V>              the type of items to consume
+     * @param <E>              the type of exceptions to consume
+     * @return a Subscriber by the given events consumers, fault type and {@link Container} of {@link KeyValue key-values} context
+     * @throws NullPointerException is any of the specified events consumers is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                                                                Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                                Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                                ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                                Class<E> faultType, Container<? extends KeyValue<?, ?>> ctx) {
+        requireNonNull(itemConsumer); requireNonNull(errorConsumer);
+        requireNonNull(faultConsumer); requireNonNull(completeConsumer);
+        return subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, context(ctx));
+    }
+
+    /**
+     * Return a Subscriber by the given events consumers, fault type and {@link Context}.
+     * <p>
+     * Having the fault type known, the {@link E} errors are told from the other ones by a single
+     * {@link Class#isInstance(Object)} check. Otherwise, an error is cast and passed to the fault consumer
+     * and the {@link ClassCastException}, if thrown, redirects it to the error consumer.
+     *
+     * @param itemConsumer     the given item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param context          the given {@link Context}
+     * @param <V>              the type of items to consume
+     * @param <E>              the type of exceptions to consume
+     * @return a Subscriber by the given events consumers, fault type and {@link Context}
+     * @throws NullPointerException is any of the specified events consumers or the {@link Context} is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                                                                Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                                Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                                ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                                Class<E> faultType, Context context) {
+        return subscriber(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, Demand.unbounded(), context);
+    }
+
+    /**
+     * Return a Subscriber by the given events consumers, fault type, {@link Demand} and {@link Context}.
+     * <p>
+     * Having the fault type known, the {@link E} errors are told from the other ones by a single
+     * {@link Class#isInstance(Object)} check. Otherwise, an error is cast and passed to the fault consumer
+     * and the {@link ClassCastException}, if thrown, redirects it to the error consumer.
+     *
+     * @param itemConsumer     the given item consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param demand           the given {@link Demand} to request items by
+     * @param context          the given {@link Context}
+     * @param <V>              the type of items to consume
+     * @param <E>              the type of exceptions to consume
+     * @return a Subscriber by the given events consumers, fault type, {@link Demand} and {@link Context}
+     * @throws NullPointerException is any of the specified events consumers, the {@link Demand}
+     *                              or the {@link Context} is {@code null}
+     */
+    static <V, E extends Exception> Subscriber<V, E> subscriber(Executable1Throwing1<? super V, ? extends RuntimeException> itemConsumer,
+                                                                Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                                Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                                ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                                Class<E> faultType, Demand demand, Context context) {
+        requireNonNull(itemConsumer); requireNonNull(errorConsumer); requireNonNull(faultConsumer);
+        requireNonNull(completeConsumer); requireNonNull(demand); requireNonNull(context);
+        return new ConsumerSubscriber<>(itemConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, demand, context);
+    }
+
+    /**
+     * Return a Subscriber by the given events consumers, fault type and {@link Context}, delivering the items
+     * to the {@link Chunk} consumer in chunks of the given maximum size, flushed on the given time limit since
+     * the first item of a chunk and before the terminal event. The {@link Chunk} is recycled after each delivery.
+     *
+     * @param chunkConsumer    the given {@link Chunk} consumer
+     * @param faultConsumer    the given {@link Exception} consumer
+     * @param errorConsumer    the given {@link Throwable} consumer
+     * @param completeConsumer the given completion event executor
+     * @param faultType        the given fault type to tell the {@link E} errors by, or {@code null} if unknown
+     * @param maxSize          the given maximum size of a {@link Chunk}
+     * @param maxTime          the given time limit of a {@link Chunk}, or {@code null} if unlimited
+     * @param context          the given {@link Context}
+     * @param <V>              the type of items to consume
+     * @param <E>              the type of exceptions to consume
+     * @return a Subscriber by the given events consumers, fault type and {@link Context}
+     * @throws NullPointerException     is any of the specified events consumers or the {@link Context} is {@code null}
+     * @throws IllegalArgumentException if the specified maximum size is not positive
+     */
+    static <V, E extends Exception> Subscriber<V, E> chunkSubscriber(Executable1Throwing1<? super Chunk<V>, ? extends RuntimeException> chunkConsumer,
+                                                                     Executable1Throwing1<? super E, ? extends RuntimeException> faultConsumer,
+                                                                     Executable1Throwing1<? super Throwable, ? extends RuntimeException> errorConsumer,
+                                                                     ExecutableThrowing1<? extends RuntimeException> completeConsumer,
+                                                                     Class<E> faultType, int maxSize, Duration maxTime, Context context) {
+        requireNonNull(chunkConsumer); requireNonNull(errorConsumer);
+        requireNonNull(faultConsumer); requireNonNull(completeConsumer); requireNonNull(context);
+        return new ChunkSubscriber<>(chunkConsumer, faultConsumer, errorConsumer, completeConsumer, faultType, maxSize, maxTime, context);
     }
 
 
@@ -365,16 +1006,189 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      * @return an empty Publishable, executing and emitting nothing
      */
     static <V, E extends Exception> Publishable<V, E> publishable() {
-        return subscriber -> {
-            subscriber.onSubscribe(new Subscription() {
-                @Override public void request(long n) {}
-                @Override public void cancel() {}
-            });
-            subscriber.onComplete(); };
+        return empty();
+    }
+
+    /**
+     * Return the empty Publishable singleton, completing at once with the singleton {@link Subscription}.
+     *
+     * @param <V> the type of items to consume
+     * @param <E> the type of exceptions to consume
+     * @return the empty Publishable singleton
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E extends Exception> Publishable<V, E> empty() {
+        return (Publishable<V, E>) ScalarSource.EMPTY;
+    }
+
+    /**
+     * Return a Publishable of the given single item.
+     *
+     * @param item the given item
+     * @param <V>  the type of items to consume
+     * @param <E>  the type of exceptions to consume
+     * @return a Publishable of the given single item
+     * @throws NullPointerException if the specified item is {@code null}
+     */
+    static <V, E extends Exception> Publishable<V, E> just(V item) {
+        return new ScalarSource<>(requireNonNull(item), null, null);
+    }
+
+    /**
+     * Return a Publishable of the items of the given array, synchronously fusable by the Reactor's operators.
+     *
+     * @param items the given array of items
+     * @param <V>   the type of items to consume
+     * @param <E>   the type of exceptions to consume
+     * @return a Publishable of the items of the given array
+     * @throws NullPointerException if the specified array is {@code null}
+     */
+    @SafeVarargs
+    static <V, E extends Exception> Publishable<V, E> fromArray(V... items) {
+        if (requireNonNull(items).length == 0)
+            return empty();
+        return (Publishable<V, E> & Fuseable) subscriber ->
+                subscriber.onSubscribe(new ArraySubscription<>(subscriber, items));
+    }
+
+    /**
+     * Return a Publishable of the elements of the given {@link Iterable}, synchronously fusable by the Reactor's operators.
+     *
+     * @param items the given {@link Iterable} of items
+     * @param <V>   the type of items to consume
+     * @param <E>   the type of exceptions to consume
+     * @return a Publishable of the elements of the given {@link Iterable}
+     * @throws NullPointerException if the specified {@link Iterable} is {@code null}
+     */
+    static <V, E extends Exception> Publishable<V, E> fromIterable(Iterable<? extends V> items) {
+        requireNonNull(items); return (Publishable<V, E> & Fuseable) subscriber -> {
+            Iterator<? extends V> iterator; boolean empty;
+            try { iterator = items.iterator(); empty = !iterator.hasNext(); }
+            catch (Throwable e) { Operators.error(subscriber, Operators.onOperatorError(e, subscriber.currentContext())); return; }
+            if (empty) Operators.complete(subscriber);
+            else subscriber.onSubscribe(new IterableSubscription<>(subscriber, iterator)); };
+    }
+
+    /**
+     * Return a Publishable terminating at once with the given error, with the singleton {@link Subscription}.
+     *
+     * @param error the given error
+     * @param <V>   the type of items to consume
+     * @param <E>   the type of exceptions to consume
+     * @return a Publishable terminating at once with the given error
+     * @throws NullPointerException if the specified error is {@code null}
+     */
+    static <V, E extends Exception> Publishable<V, E> error(Throwable error) {
+        return new ScalarSource<>(null, requireNonNull(error), null);
+    }
+
+    /**
+     * Return a Publishable terminating at once with the given {@link E} fault, with the singleton {@link Subscription},
+     * and with no {@link #faultType()}, as the class of the fault may be narrower than {@link E}.
+     *
+     * @param fault the given {@link E} fault
+     * @param <V>   the type of items to consume
+     * @param <E>   the type of exceptions to consume
+     * @return a Publishable terminating at once with the given {@link E} fault
+     * @throws NullPointerException if the specified fault is {@code null}
+     * @see #fault(Exception, Class)
+     */
+    static <V, E extends Exception> Publishable<V, E> fault(E fault) {
+        return new ScalarSource<>(null, requireNonNull(fault), null);
+    }
+
+    /**
+     * Return a Publishable terminating at once with the given {@link E} fault, with the singleton {@link Subscription},
+     * and with the given {@link #faultType()}.
+     *
+     * @param fault     the given {@link E} fault
+     * @param faultType the given fault type
+     * @param <V>       the type of items to consume
+     * @param <E>       the type of exceptions to consume
+     * @return a Publishable terminating at once with the given {@link E} fault
+     * @throws NullPointerException if the specified fault or fault type is {@code null}
+     */
+    static <V, E extends Exception> Publishable<V, E> fault(E fault, Class<E> faultType) {
+        return new ScalarSource<>(null, requireNonNull(fault), requireNonNull(faultType));
+    }
+
+    /**
+     * Return the shared Publishable terminating at once with the {@link StacklessException#cached(Class) shared}
+     * instance of the given {@link StacklessException} kind, with the singleton {@link Subscription},
+     * and with the {@link #faultType()} of the kind, so that an expected fault costs no allocation.
+     *
+     * @param type the given {@link StacklessException} kind
+     * @param <V>  the type of items to consume
+     * @param <E>  the type of exceptions to consume
+     * @return the shared Publishable terminating at once with the shared instance of the given kind
+     * @throws NullPointerException     if the specified kind is {@code null}
+     * @throws IllegalArgumentException if the specified kind cannot be instantiated by a no-arg constructor
+     */
+    static <V, E extends StacklessException> Publishable<V, E> fault(Class<E> type) {
+        return ScalarSource.fault(requireNonNull(type));
+    }
+
+    /**
+     * Return a Publishable merging the items of the given Publishables as they arrive, prefetching
+     * {@link Queues#SMALL_BUFFER_SIZE} items of each, and failing fast on the first {@link E} fault or error.
+     *
+     * @param sources the given Publishables
+     * @param <V>     the type of items to consume
+     * @param <E>     the type of exceptions to consume
+     * @return a Publishable merging the items of the given Publishables
+     * @throws NullPointerException if the specified {@link Iterable} or any of its Publishables is {@code null}
+     * @see #merge(Iterable, int, boolean)
+     */
+    static <V, E extends Exception> Publishable<V, E> merge(Iterable<? extends Publishable<? extends V, ? extends E>> sources) {
+        return merge(sources, Queues.SMALL_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Return a Publishable merging the items of the given Publishables as they arrive through a single shared
+     * queue, each requested by the given prefetch replenished as its items are delivered, so that an idle one
+     * holds no buffer. The first {@link E} fault or error either cancels the other Publishables at once,
+     * or, delayed, is delivered once all of them terminate. The {@link #faultType()} is the one of the given
+     * Publishables if they all have the same.
+     *
+     * @param sources    the given Publishables
+     * @param prefetch   the given number of items prefetched of each Publishable
+     * @param delayFault whether to deliver the first {@link E} fault or error once all the Publishables terminate
+     * @param <V>        the type of items to consume
+     * @param <E>        the type of exceptions to consume
+     * @return a Publishable merging the items of the given Publishables
+     * @throws NullPointerException     if the specified {@link Iterable} or any of its Publishables is {@code null}
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    static <V, E extends Exception> Publishable<V, E> merge(Iterable<? extends Publishable<? extends V, ? extends E>> sources,
+                                                            int prefetch, boolean delayFault) {
+        return MergePublishable.merge(sources, null, prefetch, delayFault);
+    }
+
+    /**
+     * Return a Publishable merging the items of the given ordered Publishables k-way in the order of the given
+     * {@link Comparator}, by a heap of their head items through a single shared queue: an item is delivered once
+     * every unfinished Publishable has one pending. Each one is requested by the given prefetch replenished as its
+     * items are delivered. The first {@link E} fault or error either cancels the other Publishables at once,
+     * or, delayed, is delivered once all of them terminate.
+     *
+     * @param sources    the given Publishables, each ordered by the given {@link Comparator}
+     * @param comparator the given {@link Comparator}
+     * @param prefetch   the given number of items prefetched of each Publishable
+     * @param delayFault whether to deliver the first {@link E} fault or error once all the Publishables terminate
+     * @param <V>        the type of items to consume
+     * @param <E>        the type of exceptions to consume
+     * @return a Publishable merging the items of the given Publishables in the order of the given {@link Comparator}
+     * @throws NullPointerException     if the specified {@link Iterable}, any of its Publishables
+     *                                  or the {@link Comparator} is {@code null}
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    static <V, E extends Exception> Publishable<V, E> mergeOrdered(Iterable<? extends Publishable<? extends V, ? extends E>> sources,
+                                                                   Comparator<? super V> comparator, int prefetch, boolean delayFault) {
+        return MergePublishable.merge(sources, requireNonNull(comparator), prefetch, delayFault);
     }
 
     /**
-     * Return a Publishable by the given {@link SubscribeSupport}.
+     * Return a Publishable by the given {@link SubscribeSupport}, or the {@link SubscribeSupport} itself if it is a Publishable.
      *
      * @param subscribeSupport the given {@link SubscribeSupport}
      * @param <V>              the type of items to consume
@@ -382,7 +1196,10 @@ public interface Publishable<V, E extends Exception> extends SubscribeSupport<V,
      * @return a Publishable by the given {@link SubscribeSupport}
      * @throws NullPointerException is the specified {@link SubscribeSupport} is {@code null}
      */
+    @SuppressWarnings("unchecked")
     static <V, E extends Exception> Publishable<V, E> publishable(SubscribeSupport<? extends V, ? extends E> subscribeSupport) {
-        return subscriber -> subscribeSupport.subscribe(subscriber(subscriber), new WrapContext(subscriber.currentContext()));
+        if (requireNonNull(subscribeSupport) instanceof Publishable)
+            return (Publishable<V, E>) subscribeSupport;
+        return subscriber -> subscribeSupport.subscribe(subscriber(subscriber), wrap(subscriber.currentContext()));
     }
 }
@@ -0,0 +1,175 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+/**
+ * A {@link BlockingIterator} {@link Publishable.Subscriber} handing the items off through a single-producer
+ * single-consumer queue of the given prefetch, replenished by a batch once 75% of it is consumed.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+class QueueIterator<V, E extends Exception> implements BlockingIterator<V, E>, Publishable.Subscriber<V, E> {
+
+    private final Queue<V> queue;
+    private final int prefetch;
+    private final int limit;
+    private final Class<E> faultType;
+    private final Context context;
+
+    private final AtomicReference<Thread> waiter = new AtomicReference<>();
+
+    private volatile Subscription subscription;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+    private int consumed;
+
+    QueueIterator(int prefetch, Class<E> faultType, Context context) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("Prefetch must be positive: " + prefetch);
+        this.queue = Queues.<V>get(prefetch).get();
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.faultType = faultType; this.context = context;
+    }
+
+    @Override public void onSubscribe(Subscription subscription) {
+        if (this.subscription != null || cancelled) subscription.cancel();
+        else {
+            this.subscription = subscription;
+            subscription.request(prefetch); } }
+
+    @Override public void onNext(V item) {
+        if (queue.offer(item)) signal();
+        else {
+            subscription.cancel();
+            onError(Exceptions.failWithOverflow(Exceptions.BACKPRESSURE_ERROR_QUEUE_FULL)); } }
+
+    @Override public void onError(E error) { onError((Throwable) error); }
+
+    @Override public void onError(Throwable error) { this.error = error; done = true; signal(); }
+
+    @Override public void onComplete() { done = true; signal(); }
+
+    @Override public Context currentContext() { return context; }
+
+    @Override public boolean hasNext() throws E {
+        for (;;) {
+            if (cancelled) return false;
+            boolean done = this.done, empty = queue.isEmpty();
+            if (!empty) return true;
+            if (done) {
+                Throwable error = this.error;
+                if (error != null) rethrow(error);
+                return false; }
+            waiter.set(Thread.currentThread());
+            if (this.done || !queue.isEmpty()) continue;
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                close(); Thread.currentThread().interrupt();
+                throw Exceptions.propagate(new InterruptedException()); }
+        }
+    }
+
+    @Override public V next() throws E {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        V item = queue.poll();
+        if (++consumed == limit) {
+            consumed = 0; subscription.request(limit); }
+        return item;
+    }
+
+    @Override public void close() {
+        cancelled = true; Subscription subscription = this.subscription;
+        if (subscription != null) subscription.cancel();
+        queue.clear();
+    }
+
+    /**
+     * Return a sequential {@link Stream} view of this iterator, rethrowing the {@link E} fault undeclared
+     * and cancelling the subscription on close.
+     *
+     * @return a sequential {@link Stream} view of this iterator
+     */
+    Stream<V> stream() {
+        Iterator<V> iterator = new Iterator<V>() {
+            @Override public boolean hasNext() {
+                try { return QueueIterator.this.hasNext(); }
+                catch (Exception e) { throw QueueIterator.<RuntimeException>sneaky(e); } }
+            @Override public V next() {
+                try { return QueueIterator.this.next(); }
+                catch (Exception e) { throw QueueIterator.<RuntimeException>sneaky(e); } }
+        };
+        return StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Wake the consumer up, if waiting.
+     */
+    private void signal() {
+        LockSupport.unpark(waiter.getAndSet(null));
+    }
+
+    /**
+     * Rethrow the given error: as the {@link E} fault if it is such, or as an unchecked one otherwise.
+     *
+     * @param error the given error
+     * @throws E in case the given error is the {@link E} fault
+     */
+    @SuppressWarnings("unchecked")
+    private void rethrow(Throwable error) throws E {
+        if (faultType != null ? faultType.isInstance(error) : error instanceof Exception && !(error instanceof RuntimeException))
+            throw (E) error;
+        if (error instanceof RuntimeException) throw (RuntimeException) error;
+        if (error instanceof Error) throw (Error) error;
+        throw Exceptions.propagate(error);
+    }
+
+    /**
+     * Subscribe to the given {@link Publishable} with a QueueIterator of the given prefetch and {@link Context}.
+     *
+     * @param publishable the given {@link Publishable}
+     * @param prefetch    the given number of items to prefetch
+     * @param context     the given {@link Context}
+     * @param <V>         the type of item values
+     * @param <E>         the type of potential exceptions
+     * @return the QueueIterator subscribed
+     * @throws IllegalArgumentException if the specified prefetch is not positive
+     */
+    static <V, E extends Exception> QueueIterator<V, E> iterator(Publishable<V, E> publishable, int prefetch, Context context) {
+        QueueIterator<V, E> iterator = new QueueIterator<>(prefetch, publishable.faultType(), context);
+        publishable.subscribe((CoreSubscriber<? super V>) iterator);
+        return iterator;
+    }
+
+    /**
+     * Throw the given exception undeclared.
+     *
+     * @param exception the given exception
+     * @param <T>       the type to throw the exception as
+     * @return nothing, declared to be thrown by the caller
+     * @throws T the given exception
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> RuntimeException sneaky(Throwable exception) throws T {
+        throw (T) exception;
+    }
+}
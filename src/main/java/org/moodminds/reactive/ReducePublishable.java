@@ -0,0 +1,89 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Publishable} of the single value reduced from the items of the source one,
+ * or of no value if the source one is empty and there is no seed.
+ *
+ * @param <V> the type of the source item values
+ * @param <A> the type of the reduced value
+ * @param <E> the type of potential exceptions
+ */
+class ReducePublishable<V, A, E extends Exception> implements Publishable<A, E> {
+
+    private final Publishable<V, E> source;
+    private final Supplier<? extends A> seed;
+    private final Reducer<A, ? super V, ?> reducer;
+
+    /**
+     * Construct the object with the given source {@link Publishable}, seed {@link Supplier} and reducer.
+     *
+     * @param source  the given source {@link Publishable}
+     * @param seed    the given seed {@link Supplier}, or {@code null} to seed by the first item
+     * @param reducer the given reducer
+     */
+    ReducePublishable(Publishable<V, E> source, Supplier<? extends A> seed, Reducer<A, ? super V, ?> reducer) {
+        this.source = source; this.seed = seed; this.reducer = reducer;
+    }
+
+    @Override public void subscribe(CoreSubscriber<? super A> subscriber) {
+        A initial = null; if (seed != null)
+            try { initial = requireNonNull(seed.get(), "The seed supplier returned a null value"); }
+            catch (Throwable e) {
+                Operators.error(subscriber, Operators.onOperatorError(e, subscriber.currentContext())); return; }
+        source.subscribe((CoreSubscriber<? super V>) new ReduceSubscriber<>(subscriber, initial, reducer)); }
+
+    @Override public Class<E> faultType() { return source.faultType(); }
+
+
+    /**
+     * A subscriber reducing the items requested unboundedly, emitting the reduced value on completion.
+     *
+     * @param <V> the type of the source item values
+     * @param <A> the type of the reduced value
+     */
+    static class ReduceSubscriber<V, A> extends Operators.MonoSubscriber<V, A> {
+
+        private final Reducer<A, ? super V, ?> reducer;
+
+        private Subscription subscription;
+        private boolean done;
+
+        ReduceSubscriber(CoreSubscriber<? super A> actual, A initial, Reducer<A, ? super V, ?> reducer) {
+            super(actual); this.value = initial; this.reducer = reducer;
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            if (Operators.validate(this.subscription, subscription)) {
+                this.subscription = subscription;
+                actual.onSubscribe(this); subscription.request(Long.MAX_VALUE); } }
+
+        @Override @SuppressWarnings("unchecked") public void onNext(V item) {
+            if (done) {
+                Operators.onNextDropped(item, actual.currentContext()); return; }
+            try { value = value == null ? (A) item : requireNonNull(reducer.reduce(value, item), "The reducer returned a null value"); }
+            catch (Throwable e) {
+                onError(Operators.onOperatorError(subscription, e, item, actual.currentContext())); } }
+
+        @Override public void onError(Throwable error) {
+            if (done) {
+                Operators.onErrorDropped(error, actual.currentContext()); return; }
+            done = true; discard(value); value = null; actual.onError(error); }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true; A value = this.value;
+            if (value == null) actual.onComplete();
+            else complete(value); }
+
+        @Override public void cancel() {
+            super.cancel(); subscription.cancel(); }
+    }
+}
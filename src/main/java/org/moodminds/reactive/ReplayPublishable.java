@@ -0,0 +1,329 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A {@link Publishable} sharing a single subscription to the source one, connected by the first subscriber,
+ * among all its subscribers, replaying them the latest items kept in a power-of-two ring buffer.
+ * <p>
+ * Each subscriber reads the ring by its own cursor and demand, while the source is requested no further
+ * than the ring capacity ahead of the slowest subscriber. A late subscriber starts from the oldest item
+ * still in the ring, skipping forward if the producer overwrites it first, so the producer never locks.
+ * The terminal fault or error is delivered to every subscriber as is.
+ * <p>
+ * Once the last subscriber cancels before the source terminates, the source subscription is cancelled
+ * and the ring dropped, so that the next subscriber connects anew.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+class ReplayPublishable<V, E extends Exception> implements Publishable<V, E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ReplayPublishable, Connection> CONNECTION =
+            AtomicReferenceFieldUpdater.newUpdater(ReplayPublishable.class, Connection.class, "connection");
+
+    private final Publishable<V, E> source;
+    private final int capacity;
+
+    private volatile Connection<V> connection;
+
+    /**
+     * Construct the object with the given source {@link Publishable} and minimum history size,
+     * rounded up to a power of two.
+     *
+     * @param source  the given source {@link Publishable}
+     * @param history the given minimum history size
+     */
+    ReplayPublishable(Publishable<V, E> source, int history) {
+        this.source = source; this.capacity = Queues.ceilingNextPowerOfTwo(history);
+    }
+
+    /**
+     * Subscribe the given subscriber to the current connection, connecting a new one if there is none
+     * or it is disconnected. The source is subscribed with the {@link Context} of the subscriber connecting,
+     * shared by all the subscribers of the connection.
+     *
+     * @param subscriber the given subscriber
+     */
+    @Override public void subscribe(CoreSubscriber<? super V> subscriber) {
+        for (;;) {
+            Connection<V> connection = this.connection;
+            if (connection == null || connection.disconnected()) {
+                Connection<V> connecting = new Connection<>(capacity);
+                if (!CONNECTION.compareAndSet(this, connection, connecting)) continue;
+                connection = connecting; }
+            ReplaySubscription<V> subscription = new ReplaySubscription<>(subscriber, connection, connection.oldest());
+            if (!connection.add(subscription)) continue;
+            subscriber.onSubscribe(subscription);
+            if (connection.connect(subscriber.currentContext()))
+                source.subscribe((CoreSubscriber<? super V>) connection);
+            else {
+                subscription.drain(); connection.replenish(); }
+            return; } }
+
+    @Override public Class<E> faultType() { return source.faultType(); }
+
+
+    /**
+     * An item of the ring along with its index, telling a reader if the slot is overwritten.
+     *
+     * @param <V> the type of item values
+     */
+    static final class Node<V> {
+
+        final long index;
+        final V value;
+
+        Node(long index, V value) {
+            this.index = index; this.value = value;
+        }
+    }
+
+    /**
+     * The single subscriber to the source, writing the items to the ring, and holding the upstream demand
+     * requested so far as its {@link AtomicLong} value.
+     *
+     * @param <V> the type of item values
+     */
+    static final class Connection<V> extends AtomicLong implements CoreSubscriber<V> {
+
+        private static final long serialVersionUID = -2587021398745626310L;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Connection, ReplaySubscription[]> SUBSCRIBERS =
+                AtomicReferenceFieldUpdater.newUpdater(Connection.class, ReplaySubscription[].class, "subscribers");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Connection, Subscription> UPSTREAM =
+                AtomicReferenceFieldUpdater.newUpdater(Connection.class, Subscription.class, "upstream");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Connection> CONNECTED =
+                AtomicIntegerFieldUpdater.newUpdater(Connection.class, "connected");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Connection> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(Connection.class, "wip");
+
+        private static final ReplaySubscription<?>[] EMPTY = new ReplaySubscription<?>[0];
+        private static final ReplaySubscription<?>[] DISCONNECTED = new ReplaySubscription<?>[0];
+
+        private final AtomicReferenceArray<Node<V>> ring;
+        private final int capacity;
+
+        private volatile ReplaySubscription<V>[] subscribers;
+        private volatile int connected;
+        private volatile Subscription upstream;
+        private volatile int wip;
+        private Context context = Context.empty();
+
+        /**
+         * The number of items produced so far, written by the producing thread only.
+         */
+        private volatile long produced;
+
+        private volatile boolean done;
+        private Throwable error;
+
+        @SuppressWarnings("unchecked")
+        Connection(int capacity) {
+            this.capacity = capacity; this.ring = new AtomicReferenceArray<>(capacity);
+            this.subscribers = (ReplaySubscription<V>[]) EMPTY;
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            if (Operators.setOnce(UPSTREAM, this, subscription)) replenish(); }
+
+        @Override public void onNext(V item) {
+            long index = produced;
+            ring.set((int) index & (capacity - 1), new Node<>(index, item));
+            produced = index + 1; drainAll(); }
+
+        @Override public void onError(Throwable error) {
+            this.error = error; done = true; drainAll(); }
+
+        @Override public void onComplete() {
+            done = true; drainAll(); }
+
+        @Override public Context currentContext() { return context; }
+
+        /**
+         * Mark this Connection connected with the given {@link Context}, if not yet.
+         *
+         * @param context the given {@link Context}
+         * @return {@code true} if the caller is to subscribe this Connection to the source
+         */
+        boolean connect(Context context) {
+            if (connected != 0 || !CONNECTED.compareAndSet(this, 0, 1))
+                return false;
+            this.context = context; return true;
+        }
+
+        /**
+         * Check if the last subscriber of this Connection has cancelled before the source terminated.
+         *
+         * @return {@code true} if this Connection is disconnected
+         */
+        boolean disconnected() {
+            return subscribers == DISCONNECTED;
+        }
+
+        /**
+         * Request the source up to the ring capacity ahead of the slowest subscriber, serialising
+         * the upstream requests from the subscribers' threads by the work-in-progress counter.
+         */
+        void replenish() {
+            if (WIP.getAndIncrement(this) != 0) return;
+            int missed = 1;
+            for (;;) {
+                Subscription upstream = this.upstream;
+                if (upstream != null) {
+                    long slowest = produced;
+                    for (ReplaySubscription<V> subscriber : subscribers)
+                        slowest = Math.min(slowest, subscriber.cursor);
+                    long target = slowest + capacity, requested = get();
+                    if (requested < target) {
+                        set(target); upstream.request(target - requested); } }
+                if ((missed = WIP.addAndGet(this, -missed)) == 0) return;
+            }
+        }
+
+        /**
+         * Return the ring node of the given item index.
+         *
+         * @param index the given item index
+         * @return the ring node of the given item index
+         */
+        Node<V> node(long index) {
+            return ring.get((int) index & (capacity - 1));
+        }
+
+        /**
+         * Return the index of the oldest item still in the ring.
+         *
+         * @return the index of the oldest item still in the ring
+         */
+        long oldest() {
+            return Math.max(0, produced - capacity);
+        }
+
+        private boolean add(ReplaySubscription<V> subscriber) {
+            ReplaySubscription<V>[] current, next; do {
+                if ((current = subscribers) == DISCONNECTED) return false;
+                next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = subscriber;
+            } while (!SUBSCRIBERS.compareAndSet(this, current, next));
+            return true;
+        }
+
+        /**
+         * Remove the given subscriber, cancelling the source once the last one is removed before it terminates.
+         *
+         * @param subscriber the given subscriber
+         */
+        @SuppressWarnings("unchecked")
+        void remove(ReplaySubscription<V> subscriber) {
+            ReplaySubscription<V>[] current, next; do {
+                current = subscribers; int index = -1;
+                for (int i = 0; i < current.length; i++)
+                    if (current[i] == subscriber) { index = i; break; }
+                if (index < 0) return;
+                next = current.length == 1 ? (ReplaySubscription<V>[]) (done ? EMPTY : DISCONNECTED)
+                        : new ReplaySubscription[current.length - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            } while (!SUBSCRIBERS.compareAndSet(this, current, next));
+            if (next == DISCONNECTED)
+                Operators.terminate(UPSTREAM, this);
+        }
+
+        private void drainAll() {
+            for (ReplaySubscription<V> subscriber : subscribers)
+                subscriber.drain();
+        }
+    }
+
+    /**
+     * A subscription reading the ring by its own cursor, holding the outstanding demand
+     * as its {@link AtomicLong} value.
+     *
+     * @param <V> the type of item values
+     */
+    static final class ReplaySubscription<V> extends AtomicLong implements Subscription {
+
+        private static final long serialVersionUID = 4416409623487125038L;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<ReplaySubscription> WIP =
+                AtomicIntegerFieldUpdater.newUpdater(ReplaySubscription.class, "wip");
+
+        private final CoreSubscriber<? super V> actual;
+        private final Connection<V> parent;
+
+        /**
+         * The index of the next item to read.
+         */
+        volatile long cursor;
+
+        private volatile int wip;
+        private volatile boolean cancelled;
+
+        ReplaySubscription(CoreSubscriber<? super V> actual, Connection<V> parent, long cursor) {
+            this.actual = actual; this.parent = parent; this.cursor = cursor;
+        }
+
+        @Override public void request(long n) {
+            if (Operators.validate(n)) {
+                long requested; do {
+                    if ((requested = get()) == Long.MAX_VALUE) break;
+                } while (!compareAndSet(requested, Operators.addCap(requested, n)));
+                drain(); } }
+
+        @Override public void cancel() {
+            if (!cancelled) {
+                cancelled = true; parent.remove(this); parent.replenish(); } }
+
+        /**
+         * Emit the items from the cursor while there is a demand, terminating once all the items are emitted.
+         */
+        void drain() {
+            if (WIP.getAndIncrement(this) != 0) return;
+            int missed = 1;
+            for (;;) {
+                long requested = get(), emitted = 0, cursor = this.cursor;
+                for (;;) {
+                    if (cancelled) return;
+                    boolean done = parent.done; long produced = parent.produced;
+                    if (cursor == produced) {
+                        if (done) {
+                            cancelled = true; parent.remove(this);
+                            Throwable error = parent.error;
+                            if (error != null) actual.onError(error);
+                            else actual.onComplete();
+                            return; }
+                        break; }
+                    if (emitted == requested) break;
+                    Node<V> node = parent.node(cursor);
+                    if (node.index != cursor) {
+                        cursor = parent.oldest(); continue; }
+                    actual.onNext(node.value); cursor++; emitted++; }
+                this.cursor = cursor;
+                if (emitted != 0) {
+                    while ((requested = get()) != Long.MAX_VALUE && !compareAndSet(requested, requested - emitted));
+                    parent.replenish(); }
+                if ((missed = WIP.addAndGet(this, -missed)) == 0) return;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.moodminds.reactive;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.Fuseable;
+import reactor.core.publisher.Operators;
+
+/**
+ * A {@link Publishable} of at most one signal: a single item, an error or the completion,
+ * turned into the Reactor's own scalar sources when wrapped by the {@code Flux.from} or {@code Mono.from}.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+final class ScalarSource<V, E extends Exception> implements Publishable<V, E>, Fuseable.ScalarCallable<V>, Fuseable {
+
+    /**
+     * The empty ScalarSource singleton.
+     */
+    static final ScalarSource<?, ?> EMPTY = new ScalarSource<>(null, null, null);
+
+    /**
+     * The ScalarSources of the shared {@link StacklessException} instances by their kinds.
+     */
+    private static final ClassValue<ScalarSource<?, ?>> FAULTS = new ClassValue<ScalarSource<?, ?>>() {
+        @Override @SuppressWarnings({"unchecked", "rawtypes"})
+        protected ScalarSource<?, ?> computeValue(Class<?> type) {
+            return new ScalarSource<>(null, StacklessException.cached((Class) type), (Class) type); }
+    };
+
+    private final V value;
+    private final Throwable error;
+    private final Class<E> faultType;
+
+    ScalarSource(V value, Throwable error, Class<E> faultType) {
+        this.value = value; this.error = error; this.faultType = faultType;
+    }
+
+    @Override public void subscribe(CoreSubscriber<? super V> subscriber) {
+        if (error != null) Operators.error(subscriber, error);
+        else if (value == null) Operators.complete(subscriber);
+        else subscriber.onSubscribe(Operators.scalarSubscription(subscriber, value)); }
+
+    @Override public V call() throws Exception {
+        if (error instanceof Exception) throw (Exception) error;
+        if (error instanceof Error) throw (Error) error;
+        if (error != null) throw Exceptions.propagate(error);
+        return value; }
+
+    @Override public Class<E> faultType() { return faultType; }
+
+    /**
+     * Return the shared ScalarSource of the shared instance of the given {@link StacklessException} kind.
+     *
+     * @param type the given {@link StacklessException} kind
+     * @param <V>  the type of item values
+     * @param <E>  the type of the fault
+     * @return the shared ScalarSource of the shared instance of the given {@link StacklessException} kind
+     */
+    @SuppressWarnings("unchecked")
+    static <V, E extends StacklessException> ScalarSource<V, E> fault(Class<E> type) {
+        return (ScalarSource<V, E>) FAULTS.get(type);
+    }
+}
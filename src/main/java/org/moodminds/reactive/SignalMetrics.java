@@ -0,0 +1,339 @@
+package org.moodminds.reactive;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The named signal counters and timing histograms of the instrumented {@link FluxPublishable}
+ * and {@link MonoPublishable} subscriptions, read by pulling the {@link Snapshot snapshots}.
+ * <p>
+ * The counters are striped {@link LongAdder}s, so that the concurrent subscriptions do not contend
+ * on recording. Nothing is recorded for the Publishables not {@code instrument}ed explicitly.
+ */
+public final class SignalMetrics {
+
+    /**
+     * The SignalMetrics registry by name.
+     */
+    private static final ConcurrentMap<String, SignalMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String name;
+
+    final LongAdder subscriptions = new LongAdder();
+    final LongAdder items = new LongAdder();
+    final LongAdder faults = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder completions = new LongAdder();
+    final LongAdder cancellations = new LongAdder();
+    final LongAdder demand = new LongAdder();
+    final LongAdder unbounded = new LongAdder();
+    final Histogram firstItem = new Histogram();
+    final Histogram duration = new Histogram();
+
+    private SignalMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Return the name of this SignalMetrics.
+     *
+     * @return the name of this SignalMetrics
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Return the current {@link Snapshot} of this SignalMetrics.
+     *
+     * @return the current {@link Snapshot} of this SignalMetrics
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Reset all the counters and histograms of this SignalMetrics.
+     */
+    public void reset() {
+        subscriptions.reset(); items.reset(); faults.reset(); errors.reset(); completions.reset();
+        cancellations.reset(); demand.reset(); unbounded.reset(); firstItem.reset(); duration.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    /**
+     * Return the SignalMetrics of the given name, registering it if there is no such yet.
+     *
+     * @param name the given name
+     * @return the SignalMetrics of the given name
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    public static SignalMetrics metrics(String name) {
+        return REGISTRY.computeIfAbsent(requireNonNull(name), SignalMetrics::new);
+    }
+
+    /**
+     * Return the current {@link Snapshot snapshots} of all the SignalMetrics registered, by name.
+     *
+     * @return the current {@link Snapshot snapshots} of all the SignalMetrics registered, by name
+     */
+    public static Map<String, Snapshot> snapshots() {
+        Map<String, Snapshot> snapshots = new LinkedHashMap<>();
+        REGISTRY.forEach((name, metrics) -> snapshots.put(name, metrics.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+
+    /**
+     * A point-in-time view of the {@link SignalMetrics}.
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final long subscriptions, items, faults, errors, completions, cancellations, demand, unbounded;
+        private final Histogram.Snapshot firstItem, duration;
+
+        private Snapshot(SignalMetrics metrics) {
+            this.name = metrics.name;
+            this.subscriptions = metrics.subscriptions.sum(); this.items = metrics.items.sum();
+            this.faults = metrics.faults.sum(); this.errors = metrics.errors.sum();
+            this.completions = metrics.completions.sum(); this.cancellations = metrics.cancellations.sum();
+            this.demand = metrics.demand.sum(); this.unbounded = metrics.unbounded.sum();
+            this.firstItem = metrics.firstItem.snapshot(); this.duration = metrics.duration.snapshot();
+        }
+
+        /**
+         * Return the name of the {@link SignalMetrics}.
+         *
+         * @return the name of the {@link SignalMetrics}
+         */
+        public String name() { return name; }
+
+        /**
+         * Return the number of subscriptions.
+         *
+         * @return the number of subscriptions
+         */
+        public long subscriptions() { return subscriptions; }
+
+        /**
+         * Return the number of items emitted.
+         *
+         * @return the number of items emitted
+         */
+        public long items() { return items; }
+
+        /**
+         * Return the number of subscriptions terminated with the {@code E} fault.
+         *
+         * @return the number of subscriptions terminated with the {@code E} fault
+         */
+        public long faults() { return faults; }
+
+        /**
+         * Return the number of subscriptions terminated with an error other than the {@code E} fault.
+         *
+         * @return the number of subscriptions terminated with an error other than the {@code E} fault
+         */
+        public long errors() { return errors; }
+
+        /**
+         * Return the number of subscriptions completed.
+         *
+         * @return the number of subscriptions completed
+         */
+        public long completions() { return completions; }
+
+        /**
+         * Return the number of subscriptions cancelled.
+         *
+         * @return the number of subscriptions cancelled
+         */
+        public long cancellations() { return cancellations; }
+
+        /**
+         * Return the number of subscriptions active, neither terminated nor cancelled.
+         *
+         * @return the number of subscriptions active
+         */
+        public long active() { return subscriptions - faults - errors - completions - cancellations; }
+
+        /**
+         * Return the number of items requested but not emitted yet by the active bounded subscriptions.
+         *
+         * @return the number of items requested but not emitted yet by the active bounded subscriptions
+         */
+        public long outstandingDemand() { return demand; }
+
+        /**
+         * Return the number of subscriptions which requested an unbounded demand.
+         *
+         * @return the number of subscriptions which requested an unbounded demand
+         */
+        public long unboundedSubscriptions() { return unbounded; }
+
+        /**
+         * Return the {@link Histogram.Snapshot} of the nanoseconds from subscription to the first item.
+         *
+         * @return the {@link Histogram.Snapshot} of the nanoseconds from subscription to the first item
+         */
+        public Histogram.Snapshot timeToFirstItem() { return firstItem; }
+
+        /**
+         * Return the {@link Histogram.Snapshot} of the nanoseconds from subscription to its termination or cancellation.
+         *
+         * @return the {@link Histogram.Snapshot} of the nanoseconds from subscription to its termination or cancellation
+         */
+        public Histogram.Snapshot subscriptionDuration() { return duration; }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "SignalMetrics{name=" + name + ", subscriptions=" + subscriptions + ", items=" + items
+                    + ", faults=" + faults + ", errors=" + errors + ", completions=" + completions
+                    + ", cancellations=" + cancellations + ", outstandingDemand=" + demand
+                    + ", unboundedSubscriptions=" + unbounded + ", timeToFirstItem=" + firstItem
+                    + ", subscriptionDuration=" + duration + "}";
+        }
+    }
+
+
+    /**
+     * A histogram of nanosecond durations with the power-of-two buckets, recorded by the striped {@link LongAdder}s.
+     */
+    public static final class Histogram {
+
+        /**
+         * The number of buckets: the bucket {@code i} counts the durations below {@code 2^i} nanoseconds.
+         */
+        private static final int BUCKETS = 64;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder total = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+        }
+
+        /**
+         * Record the given duration.
+         *
+         * @param nanos the given duration in nanoseconds
+         */
+        void record(long nanos) {
+            nanos = Math.max(nanos, 0);
+            buckets[BUCKETS - Long.numberOfLeadingZeros(nanos)].increment(); total.add(nanos);
+        }
+
+        /**
+         * Reset this Histogram.
+         */
+        void reset() {
+            for (LongAdder bucket : buckets) bucket.reset(); total.reset();
+        }
+
+        /**
+         * Return the current {@link Snapshot} of this Histogram.
+         *
+         * @return the current {@link Snapshot} of this Histogram
+         */
+        Snapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) counts[i] = buckets[i].sum();
+            return new Snapshot(counts, total.sum());
+        }
+
+
+        /**
+         * A point-in-time view of the {@link Histogram}.
+         */
+        public static final class Snapshot {
+
+            private final long[] counts;
+            private final long count, total;
+
+            private Snapshot(long[] counts, long total) {
+                long count = 0; for (long c : counts) count += c;
+                this.counts = counts; this.count = count; this.total = total;
+            }
+
+            /**
+             * Return the number of durations recorded.
+             *
+             * @return the number of durations recorded
+             */
+            public long count() { return count; }
+
+            /**
+             * Return the total of the durations recorded, in nanoseconds.
+             *
+             * @return the total of the durations recorded, in nanoseconds
+             */
+            public long totalNanos() { return total; }
+
+            /**
+             * Return the mean of the durations recorded, in nanoseconds, or {@code 0} if none.
+             *
+             * @return the mean of the durations recorded, in nanoseconds, or {@code 0} if none
+             */
+            public double meanNanos() { return count == 0 ? 0 : (double) total / count; }
+
+            /**
+             * Return the upper bound, in nanoseconds, of the bucket the given percentile of the durations falls into,
+             * or {@code 0} if none recorded.
+             *
+             * @param percentile the given percentile, from {@code 0} to {@code 100}
+             * @return the upper bound of the bucket the given percentile falls into, in nanoseconds
+             * @throws IllegalArgumentException if the specified percentile is out of range
+             */
+            public long percentileNanos(double percentile) {
+                if (percentile < 0 || percentile > 100)
+                    throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+                long rank = (long) Math.ceil(count * percentile / 100), seen = 0;
+                for (int i = 0; i < BUCKETS; i++)
+                    if ((seen += counts[i]) >= rank && seen > 0)
+                        return (1L << i) - 1;
+                return 0;
+            }
+
+            /**
+             * Return the number of durations in the given bucket, which counts those
+             * below {@code 2^bucket} nanoseconds and not below the previous one.
+             *
+             * @param bucket the given bucket index, from {@code 0} to {@code 63}
+             * @return the number of durations in the given bucket
+             */
+            public long bucket(int bucket) { return counts[bucket]; }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @return {@inheritDoc}
+             */
+            @Override
+            public String toString() {
+                return "{count=" + count + ", mean=" + (long) meanNanos() + "ns, p50=" + percentileNanos(50)
+                        + "ns, p99=" + percentileNanos(99) + "ns}";
+            }
+        }
+    }
+}
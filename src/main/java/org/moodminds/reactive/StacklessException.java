@@ -0,0 +1,68 @@
+package org.moodminds.reactive;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * A base type of the expected {@link Exception} faults, such as not found or conflict, which neither fill in
+ * the stack trace nor record the suppressed exceptions, so that an instance is cheap to create and safe to share.
+ * <p>
+ * A fault kind having a no-arg constructor may be {@link #cached(Class) cached} as a single shared instance,
+ * also emitted by the {@link Publishable#fault(Class)} sources.
+ */
+public class StacklessException extends Exception {
+
+    private static final long serialVersionUID = -3871465402917354412L;
+
+    /**
+     * The shared instances of the fault kinds.
+     */
+    private static final ClassValue<StacklessException> CACHED = new ClassValue<StacklessException>() {
+        @Override protected StacklessException computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (StacklessException) constructor.newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalArgumentException("Cannot instantiate the fault kind " + type.getName(), e); }
+        }
+    };
+
+    /**
+     * Construct the object with no detail message.
+     */
+    public StacklessException() {
+        this(null, null);
+    }
+
+    /**
+     * Construct the object with the given detail message.
+     *
+     * @param message the given detail message
+     */
+    public StacklessException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * Construct the object with the given detail message and cause.
+     *
+     * @param message the given detail message
+     * @param cause   the given cause
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+    /**
+     * Return the shared instance of the given fault kind, created once by its no-arg constructor.
+     *
+     * @param type the given fault kind
+     * @param <E>  the type of the fault
+     * @return the shared instance of the given fault kind
+     * @throws NullPointerException     if the specified fault kind is {@code null}
+     * @throws IllegalArgumentException if the specified fault kind cannot be instantiated by a no-arg constructor
+     */
+    public static <E extends StacklessException> E cached(Class<E> type) {
+        return type.cast(CACHED.get(type));
+    }
+}
@@ -0,0 +1,153 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Scannable;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Publishable} of the source one's items passed through a chain of the stateless map and filter stages,
+ * fused into a single {@link Stage} and so into a single subscriber however long the chain is.
+ *
+ * @param <T> the type of the source item values
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+class StagePublishable<T, V, E extends Exception> implements Publishable<V, E> {
+
+    /**
+     * The marker of an item dropped by a filter stage.
+     */
+    static final Object DROPPED = new Object();
+
+    private final Publishable<T, E> source;
+    private final Stage<T> stage;
+
+    StagePublishable(Publishable<T, E> source, Stage<T> stage) {
+        this.source = source; this.stage = stage;
+    }
+
+    @Override public void subscribe(CoreSubscriber<? super V> subscriber) {
+        source.subscribe((CoreSubscriber<? super T>) new StageSubscriber<T, V>(subscriber, stage)); }
+
+    @Override public Class<E> faultType() { return source.faultType(); }
+
+    @Override public <R> Publishable<R, E> mapChecked(Mapper<? super V, ? extends R, ? extends E> mapper) {
+        return new StagePublishable<>(source, map(stage, requireNonNull(mapper))); }
+
+    @Override public Publishable<V, E> filterChecked(Tester<? super V, ? extends E> tester) {
+        return new StagePublishable<>(source, filter(stage, requireNonNull(tester))); }
+
+    /**
+     * Return the {@link Stage} of the given one followed by the given mapper.
+     *
+     * @param stage  the given {@link Stage}, or {@code null} if none
+     * @param mapper the given mapper
+     * @param <T>    the type of the source item values
+     * @param <V>    the type of the given {@link Stage} result values
+     * @param <R>    the type of the mapper result values
+     * @return the {@link Stage} of the given one followed by the given mapper
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V, R> Stage<T> map(Stage<T> stage, Mapper<? super V, ? extends R, ?> mapper) {
+        if (stage == null)
+            return item -> requireNonNull(mapper.map((V) item), "The mapper returned a null value");
+        return item -> {
+            Object value = stage.apply(item);
+            return value == DROPPED ? DROPPED : requireNonNull(mapper.map((V) value), "The mapper returned a null value"); };
+    }
+
+    /**
+     * Return the {@link Stage} of the given one followed by the given tester.
+     *
+     * @param stage  the given {@link Stage}, or {@code null} if none
+     * @param tester the given tester
+     * @param <T>    the type of the source item values
+     * @param <V>    the type of the given {@link Stage} result values
+     * @return the {@link Stage} of the given one followed by the given tester
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V> Stage<T> filter(Stage<T> stage, Tester<? super V, ?> tester) {
+        if (stage == null)
+            return item -> tester.test((V) item) ? item : DROPPED;
+        return item -> {
+            Object value = stage.apply(item);
+            return value == DROPPED || !tester.test((V) value) ? DROPPED : value; };
+    }
+
+
+    /**
+     * A fused chain of the map and filter stages.
+     *
+     * @param <T> the type of the source item values
+     */
+    @FunctionalInterface
+    interface Stage<T> {
+
+        /**
+         * Apply the stages to the given item.
+         *
+         * @param item the given item
+         * @return the resulting value, or the {@link #DROPPED} marker if the item is filtered out
+         * @throws Exception in case of the {@code E} fault or any other exception thrown by a stage
+         */
+        Object apply(T item) throws Exception;
+    }
+
+    /**
+     * A subscriber applying the {@link Stage} to the items, requesting a replacement for each one dropped.
+     *
+     * @param <T> the type of the source item values
+     * @param <V> the type of item values
+     */
+    static class StageSubscriber<T, V> implements CoreSubscriber<T>, Subscription, Scannable {
+
+        private final CoreSubscriber<? super V> actual;
+        private final Stage<T> stage;
+
+        private Subscription subscription;
+        private boolean done;
+
+        StageSubscriber(CoreSubscriber<? super V> actual, Stage<T> stage) {
+            this.actual = actual; this.stage = stage;
+        }
+
+        @Override public void onSubscribe(Subscription subscription) {
+            if (Operators.validate(this.subscription, subscription)) {
+                this.subscription = subscription; actual.onSubscribe(this); } }
+
+        @Override @SuppressWarnings("unchecked") public void onNext(T item) {
+            if (done) {
+                Operators.onNextDropped(item, actual.currentContext()); return; }
+            Object value;
+            try { value = stage.apply(item); }
+            catch (Throwable e) {
+                onError(Operators.onOperatorError(subscription, e, item, actual.currentContext())); return; }
+            if (value == DROPPED) subscription.request(1);
+            else actual.onNext((V) value); }
+
+        @Override public void onError(Throwable error) {
+            if (done) {
+                Operators.onErrorDropped(error, actual.currentContext()); return; }
+            done = true; actual.onError(error); }
+
+        @Override public void onComplete() {
+            if (!done) {
+                done = true; actual.onComplete(); } }
+
+        @Override public void request(long n) { subscription.request(n); }
+
+        @Override public void cancel() { subscription.cancel(); }
+
+        @Override public Context currentContext() { return actual.currentContext(); }
+
+        @Override public Object scanUnsafe(Attr key) {
+            if (key == Attr.PARENT) return subscription;
+            if (key == Attr.ACTUAL) return actual;
+            if (key == Attr.TERMINATED) return done;
+            return key == Attr.RUN_STYLE ? Attr.RunStyle.SYNC : null; }
+    }
+}
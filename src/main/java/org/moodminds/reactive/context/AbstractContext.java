@@ -0,0 +1,185 @@
+package org.moodminds.reactive.context;
+
+import reactor.util.context.Context;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A base {@link Context} implementation for the views over external key-value sources,
+ * materializing the Reactor's own {@link Context} (using its size-specialized implementations
+ * for up to 5 entries) only when a modification is actually requested.
+ */
+public abstract class AbstractContext implements Context {
+
+    /**
+     * The maximum number of entries the Reactor's size-specialized {@link Context} implementations hold.
+     */
+    protected static final int SPECIALIZED_SIZE = 5;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    @Override
+    public <T> T get(Object key) {
+        T value = find(requireNonNull(key, "key"));
+        if (value == null)
+            throw new NoSuchElementException("Context does not contain key: " + key);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @param defaultValue {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public <T> T getOrDefault(Object key, T defaultValue) {
+        T value = find(requireNonNull(key, "key"));
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean hasKey(Object key) {
+        return find(requireNonNull(key, "key")) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key   {@inheritDoc}
+     * @param value {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Context put(Object key, Object value) {
+        requireNonNull(key, "key"); requireNonNull(value, "value");
+        Object[] pairs = new Object[(size() + 1) << 1]; int length = pairs(pairs, key);
+        pairs[length++] = key; pairs[length++] = value;
+        return context(pairs, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Context delete(Object key) {
+        if (!hasKey(key))
+            return this;
+        Object[] pairs = new Object[size() << 1];
+        return context(pairs, pairs(pairs, key));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Stream<Entry<Object, Object>> stream() {
+        Object[] pairs = new Object[size() << 1]; int length = pairs(pairs, null);
+        Stream.Builder<Entry<Object, Object>> builder = Stream.builder();
+        for (int i = 0; i < length; i += 2)
+            builder.accept(new SimpleImmutableEntry<>(pairs[i], pairs[i + 1]));
+        return builder.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param action {@inheritDoc}
+     */
+    @Override
+    public void forEach(BiConsumer<Object, Object> action) {
+        requireNonNull(action); forEachEntry(action);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Context{");
+        forEachEntry((key, value) -> builder.append(builder.length() > 8 ? ", " : "").append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Return the value associated with the specified non-null key, or {@code null} if there is no such.
+     *
+     * @param key the specified key
+     * @param <T> the type of the value
+     * @return the value associated with the specified key, or {@code null} if there is no such
+     */
+    protected abstract <T> T find(Object key);
+
+    /**
+     * Perform the specified action for each of the distinct key entries of this Context,
+     * where a later key supersedes an earlier one.
+     *
+     * @param action the specified action
+     */
+    protected abstract void forEachEntry(BiConsumer<Object, Object> action);
+
+    /**
+     * Fill the given array with the distinct key-value pairs of this Context, skipping the given key.
+     *
+     * @param pairs the given array to fill with the alternating keys and values
+     * @param skip  the given key to skip, may be {@code null}
+     * @return the number of the array elements filled
+     */
+    private int pairs(Object[] pairs, Object skip) {
+        int[] length = {0}; forEachEntry((key, value) -> {
+            if (skip == null || !skip.equals(key)) {
+                pairs[length[0]++] = key; pairs[length[0]++] = value; } });
+        return length[0];
+    }
+
+    /**
+     * Return the Reactor's {@link Context} of the given distinct key-value pairs, using
+     * the size-specialized implementation if the number of pairs allows it.
+     *
+     * @param pairs  the given array of the alternating keys and values
+     * @param length the number of the array elements to take
+     * @return the Reactor's {@link Context} of the given distinct key-value pairs
+     */
+    protected static Context context(Object[] pairs, int length) {
+        switch (length >> 1) {
+            case 0: return Context.empty();
+            case 1: return Context.of(pairs[0], pairs[1]);
+            case 2: return Context.of(pairs[0], pairs[1], pairs[2], pairs[3]);
+            case 3: return Context.of(pairs[0], pairs[1], pairs[2], pairs[3], pairs[4], pairs[5]);
+            case 4: return Context.of(pairs[0], pairs[1], pairs[2], pairs[3], pairs[4], pairs[5], pairs[6], pairs[7]);
+            case 5: return Context.of(pairs[0], pairs[1], pairs[2], pairs[3], pairs[4], pairs[5], pairs[6], pairs[7], pairs[8], pairs[9]);
+            default:
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < length; i += 2)
+                    map.put(pairs[i], pairs[i + 1]);
+                return Context.of(map);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.moodminds.reactive.context;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import reactor.util.context.Context;
+
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lazy {@link Context} view of the {@link Association} context, the reverse of the {@link WrapContext}.
+ * The lookups delegate to the {@link Association}, while a copy is made only when the view is modified.
+ * A key associated with the {@code null} value is absent from the view, as a {@link Context} holds no such entries.
+ */
+public class AssociationContext extends AbstractContext {
+
+    /**
+     * A wrapped {@link Association} holder field.
+     */
+    private final Association<?, ?, ?> association;
+
+    /**
+     * The number of keys associated with the non-null values, computed lazily.
+     */
+    private int size = -1;
+
+    /**
+     * Construct the object with the given {@link Association} instance.
+     *
+     * @param association the given {@link Association} instance
+     * @throws NullPointerException if the {@link Association} specified is {@code null}
+     */
+    protected AssociationContext(Association<?, ?, ?> association) {
+        this.association = requireNonNull(association);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        int size = this.size;
+        if (size < 0) {
+            int[] count = {0}; forEachEntry((key, value) -> count[0]++);
+            this.size = size = count[0];
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T find(Object key) {
+        if (!association.containsKey(key))
+            return null;
+        return (T) association.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param action {@inheritDoc}
+     */
+    @Override
+    protected void forEachEntry(BiConsumer<Object, Object> action) {
+        for (KeyValue<?, ?> keyValue : association) {
+            Object value = keyValue.getValue();
+            if (value != null)
+                action.accept(requireNonNull(keyValue.getKey(), "key"), value); }
+    }
+
+    /**
+     * Return the wrapped {@link Association}.
+     *
+     * @return the wrapped {@link Association}
+     */
+    Association<?, ?, ?> association() {
+        return association;
+    }
+
+    /**
+     * Return a {@link Context} view of the given {@link Association}, or the wrapped
+     * {@link Context} itself if the {@link Association} is a {@link WrapContext}.
+     *
+     * @param association the given {@link Association}
+     * @return a {@link Context} view of the given {@link Association}
+     * @throws NullPointerException if the {@link Association} specified is {@code null}
+     */
+    public static Context context(Association<?, ?, ?> association) {
+        if (requireNonNull(association) instanceof WrapContext)
+            return ((WrapContext) association).context();
+        return association.size() == 0 ? Context.empty() : new AssociationContext(association);
+    }
+}
@@ -0,0 +1,112 @@
+package org.moodminds.reactive.context;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.Container;
+import org.moodminds.elemental.KeyValue;
+import reactor.util.context.Context;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Context} implementation backed directly by the {@link Container} of {@link KeyValue key-values}
+ * without copying it, where a later key supersedes an earlier one.
+ */
+public class ContainerContext extends AbstractContext {
+
+    /**
+     * A wrapped {@link Container} of {@link KeyValue key-values} holder field.
+     */
+    private final Container<? extends KeyValue<?, ?>> keyValues;
+
+    /**
+     * The number of distinct keys, computed lazily.
+     */
+    private int size = -1;
+
+    /**
+     * Construct the object with the given {@link Container} of {@link KeyValue key-values}.
+     *
+     * @param keyValues the given {@link Container} of {@link KeyValue key-values}
+     * @throws NullPointerException if the {@link Container} specified is {@code null}
+     */
+    protected ContainerContext(Container<? extends KeyValue<?, ?>> keyValues) {
+        this.keyValues = requireNonNull(keyValues);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T find(Object key) {
+        Object value = null;
+        for (KeyValue<?, ?> keyValue : keyValues)
+            if (key.equals(keyValue.getKey()))
+                value = keyValue.getValue();
+        return (T) value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        int size = this.size;
+        if (size < 0) {
+            int[] count = {0}; forEachEntry((key, value) -> count[0]++);
+            this.size = size = count[0];
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param action {@inheritDoc}
+     */
+    @Override
+    protected void forEachEntry(BiConsumer<Object, Object> action) {
+        int index = 0; for (KeyValue<?, ?> keyValue : keyValues) {
+            Object key = requireNonNull(keyValue.getKey(), "key");
+            if (!superseded(key, ++index))
+                action.accept(key, requireNonNull(keyValue.getValue(), "value")); }
+    }
+
+    /**
+     * Check if the given key is repeated in the {@link Container} after the given number of elements.
+     *
+     * @param key  the given key
+     * @param skip the given number of elements to skip
+     * @return {@code true} if the given key is repeated after the given number of elements
+     */
+    private boolean superseded(Object key, int skip) {
+        Iterator<? extends KeyValue<?, ?>> iterator = keyValues.iterator();
+        for (int i = 0; i < skip; i++) iterator.next();
+        while (iterator.hasNext())
+            if (key.equals(iterator.next().getKey()))
+                return true;
+        return false;
+    }
+
+    /**
+     * Return a {@link Context} by the given {@link Container} of {@link KeyValue key-values},
+     * viewing it by the {@link AssociationContext} if it is an {@link Association}.
+     *
+     * @param keyValues the given {@link Container} of {@link KeyValue key-values}
+     * @return a {@link Context} by the given {@link Container} of {@link KeyValue key-values}
+     * @throws NullPointerException if the {@link Container} specified is {@code null}
+     */
+    public static Context context(Container<? extends KeyValue<?, ?>> keyValues) {
+        if (keyValues instanceof Association)
+            return AssociationContext.context((Association<?, ?, ?>) keyValues);
+        return keyValues.size() == 0 ? Context.empty() : new ContainerContext(keyValues);
+    }
+}
@@ -0,0 +1,139 @@
+package org.moodminds.reactive.context;
+
+import org.moodminds.elemental.AbstractKeyValue;
+import org.moodminds.elemental.KeyValue;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A typed {@link Context} key registered once by name and given a dense index, so that the {@link SlotContext}
+ * keeps its value in an array slot and looks it up by an array load. Being compared by identity, it is also
+ * a plain key of any other {@link Context}.
+ *
+ * @param <T> the type of the value
+ */
+public final class ContextKey<T> {
+
+    /**
+     * The registered keys by name.
+     */
+    private static final Map<String, ContextKey<?>> REGISTRY = new HashMap<>();
+
+    /**
+     * The registered keys by index.
+     */
+    private static volatile ContextKey<?>[] KEYS = new ContextKey<?>[0];
+
+    private final String name;
+    private final int index;
+
+    private ContextKey(String name, int index) {
+        this.name = name; this.index = index;
+    }
+
+    /**
+     * Return the name of this key.
+     *
+     * @return the name of this key
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Return the dense index of this key.
+     *
+     * @return the dense index of this key
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Return a {@link KeyValue} of this key and the given value.
+     *
+     * @param value the given value
+     * @return a {@link KeyValue} of this key and the given value
+     * @throws NullPointerException if the specified value is {@code null}
+     */
+    public KeyValue<ContextKey<T>, T> with(T value) {
+        requireNonNull(value, "value"); ContextKey<T> key = this;
+        return new AbstractKeyValue<ContextKey<T>, T>() {
+            @Override public ContextKey<T> getKey() { return key; }
+            @Override public T getValue() { return value; } };
+    }
+
+    /**
+     * Return the value of this key in the given {@link ContextView}.
+     *
+     * @param context the given {@link ContextView}
+     * @return the value of this key in the given {@link ContextView}
+     * @throws NoSuchElementException if there is no value of this key
+     */
+    public T get(ContextView context) {
+        T value = getOrDefault(context, null);
+        if (value == null)
+            throw new NoSuchElementException("Context does not contain key: " + this);
+        return value;
+    }
+
+    /**
+     * Return the value of this key in the given {@link ContextView}, or the given default value if there is no such,
+     * by an array load if the {@link ContextView} is a {@link SlotContext}.
+     *
+     * @param context      the given {@link ContextView}
+     * @param defaultValue the given default value
+     * @return the value of this key in the given {@link ContextView}, or the given default value if there is no such
+     */
+    public T getOrDefault(ContextView context, T defaultValue) {
+        T value = context instanceof SlotContext ? ((SlotContext) context).slot(index)
+                : context.getOrDefault(this, null);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Return the key of the given name, registering it if there is no such yet.
+     *
+     * @param name the given name
+     * @param <T>  the type of the value
+     * @return the key of the given name
+     * @throws NullPointerException if the specified name is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> ContextKey<T> key(String name) {
+        ContextKey<?> key = REGISTRY.get(requireNonNull(name));
+        if (key == null) {
+            ContextKey<?>[] keys = KEYS;
+            REGISTRY.put(name, key = new ContextKey<>(name, keys.length));
+            keys = Arrays.copyOf(keys, keys.length + 1); keys[key.index] = key;
+            KEYS = keys; }
+        return (ContextKey<T>) key;
+    }
+
+    /**
+     * Return the key of the given index.
+     *
+     * @param index the given index
+     * @return the key of the given index
+     */
+    static ContextKey<?> key(int index) {
+        return KEYS[index];
+    }
+}
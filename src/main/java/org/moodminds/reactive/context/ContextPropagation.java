@@ -0,0 +1,166 @@
+package org.moodminds.reactive.context;
+
+import reactor.util.context.ContextView;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A registry of the {@link Accessor}s propagating the subscriber {@link ContextView} values into the
+ * {@link ThreadLocal}s (such as MDC, tracing or security state) around the consumer callbacks.
+ * <p>
+ * The registered {@link Accessor}s and their values are captured once per subscription into a {@link Scope},
+ * which sets a {@link ThreadLocal} only if it does not hold the captured value already, and restores only those
+ * it set. No {@link Scope} is captured at all if no {@link Accessor} is registered or none of their keys
+ * is in the {@link ContextView}.
+ */
+public final class ContextPropagation {
+
+    /**
+     * The maximum number of the registered {@link Accessor}s.
+     */
+    private static final int MAX_ACCESSORS = Long.SIZE;
+
+    /**
+     * The registered {@link Accessor}s, copied on write.
+     */
+    private static volatile Accessor<?>[] ACCESSORS = new Accessor<?>[0];
+
+    private ContextPropagation() {}
+
+    /**
+     * Register the given {@link Accessor}, replacing the one of the same key, if any.
+     *
+     * @param accessor the given {@link Accessor}
+     * @throws NullPointerException  if the specified {@link Accessor} or its key is {@code null}
+     * @throws IllegalStateException if the maximum number of the registered {@link Accessor}s is exceeded
+     */
+    public static synchronized void register(Accessor<?> accessor) {
+        Object key = requireNonNull(requireNonNull(accessor).key(), "key");
+        Accessor<?>[] accessors = ACCESSORS;
+        for (int i = 0; i < accessors.length; i++)
+            if (key.equals(accessors[i].key())) {
+                accessors = accessors.clone(); accessors[i] = accessor;
+                ACCESSORS = accessors; return; }
+        if (accessors.length == MAX_ACCESSORS)
+            throw new IllegalStateException("Too many accessors registered: " + MAX_ACCESSORS);
+        accessors = Arrays.copyOf(accessors, accessors.length + 1);
+        accessors[accessors.length - 1] = accessor;
+        ACCESSORS = accessors;
+    }
+
+    /**
+     * Unregister the {@link Accessor} of the given key, if any.
+     *
+     * @param key the given key
+     * @return {@code true} if an {@link Accessor} was unregistered
+     */
+    public static synchronized boolean unregister(Object key) {
+        Accessor<?>[] accessors = ACCESSORS;
+        for (int i = 0; i < accessors.length; i++)
+            if (accessors[i].key().equals(key)) {
+                Accessor<?>[] removed = new Accessor<?>[accessors.length - 1];
+                System.arraycopy(accessors, 0, removed, 0, i);
+                System.arraycopy(accessors, i + 1, removed, i, removed.length - i);
+                ACCESSORS = removed; return true; }
+        return false;
+    }
+
+    /**
+     * Capture the registered {@link Accessor}s and their values in the given {@link ContextView} into a {@link Scope}.
+     *
+     * @param context the given {@link ContextView}
+     * @return the captured {@link Scope}, or {@code null} if no {@link Accessor} is registered
+     * or none of their keys is in the given {@link ContextView}
+     */
+    public static Scope scope(ContextView context) {
+        Accessor<?>[] accessors = ACCESSORS;
+        if (accessors.length == 0)
+            return null;
+        Accessor<?>[] captured = new Accessor<?>[accessors.length]; Object[] values = new Object[accessors.length];
+        int length = 0; for (Accessor<?> accessor : accessors) {
+            Object value = context.getOrDefault(accessor.key(), null);
+            if (value != null) {
+                captured[length] = accessor; values[length++] = value; } }
+        return length == 0 ? null : new Scope(Arrays.copyOf(captured, length), Arrays.copyOf(values, length));
+    }
+
+
+    /**
+     * An accessor of a {@link ThreadLocal} state propagated from the {@link ContextView} value of its key.
+     *
+     * @param <T> the type of the value
+     */
+    public interface Accessor<T> {
+
+        /**
+         * Return the {@link ContextView} key of the propagated value.
+         *
+         * @return the {@link ContextView} key of the propagated value
+         */
+        Object key();
+
+        /**
+         * Return the current value of the {@link ThreadLocal} state.
+         *
+         * @return the current value of the {@link ThreadLocal} state, or {@code null} if none
+         */
+        T get();
+
+        /**
+         * Set the given value to the {@link ThreadLocal} state.
+         *
+         * @param value the given value
+         */
+        void set(T value);
+
+        /**
+         * Clear the {@link ThreadLocal} state.
+         */
+        void reset();
+    }
+
+    /**
+     * The {@link Accessor}s and their values captured for a subscription, whose signals are serial, so that
+     * a single Scope is opened by one thread at a time.
+     */
+    public static final class Scope {
+
+        private final Accessor<Object>[] accessors;
+        private final Object[] values;
+        private final Object[] previous;
+
+        @SuppressWarnings("unchecked")
+        private Scope(Accessor<?>[] accessors, Object[] values) {
+            this.accessors = (Accessor<Object>[]) accessors; this.values = values;
+            this.previous = new Object[accessors.length];
+        }
+
+        /**
+         * Set the captured values to the {@link ThreadLocal}s of the current thread not holding them already.
+         *
+         * @return the mask of the {@link ThreadLocal}s set, to pass to {@link #close(long)}
+         */
+        public long open() {
+            long opened = 0; for (int i = 0; i < accessors.length; i++) {
+                Object current = accessors[i].get();
+                if (current != values[i]) {
+                    previous[i] = current; accessors[i].set(values[i]); opened |= 1L << i; } }
+            return opened;
+        }
+
+        /**
+         * Restore the {@link ThreadLocal}s set by the {@link #open()} returned the given mask.
+         *
+         * @param opened the given mask of the {@link ThreadLocal}s set
+         */
+        public void close(long opened) {
+            for (int i = 0; opened != 0; i++, opened >>>= 1)
+                if ((opened & 1) != 0) {
+                    Object previous = this.previous[i]; this.previous[i] = null;
+                    if (previous != null) accessors[i].set(previous);
+                    else accessors[i].reset(); }
+        }
+    }
+}
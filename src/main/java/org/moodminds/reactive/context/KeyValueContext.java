@@ -0,0 +1,111 @@
+package org.moodminds.reactive.context;
+
+import org.moodminds.elemental.KeyValue;
+import reactor.util.context.Context;
+
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Context} implementation backed directly by the {@link KeyValue key-value array}
+ * without copying it, where a later key supersedes an earlier one.
+ */
+public class KeyValueContext extends AbstractContext {
+
+    /**
+     * A wrapped {@link KeyValue key-value array} holder field.
+     */
+    private final KeyValue<?, ?>[] keyValues;
+
+    /**
+     * The number of distinct keys, computed lazily.
+     */
+    private int size = -1;
+
+    /**
+     * Construct the object with the given {@link KeyValue key-value array}.
+     *
+     * @param keyValues the given {@link KeyValue key-value array}
+     * @throws NullPointerException if the array, any of its elements or their keys or values is {@code null}
+     */
+    protected KeyValueContext(KeyValue<?, ?>[] keyValues) {
+        for (KeyValue<?, ?> keyValue : keyValues) {
+            requireNonNull(keyValue.getKey(), "key"); requireNonNull(keyValue.getValue(), "value"); }
+        this.keyValues = keyValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T find(Object key) {
+        for (int i = keyValues.length - 1; i >= 0; i--)
+            if (key.equals(keyValues[i].getKey()))
+                return (T) keyValues[i].getValue();
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        int size = this.size;
+        if (size < 0) {
+            size = 0; for (int i = 0; i < keyValues.length; i++)
+                if (!superseded(i)) size++;
+            this.size = size;
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param action {@inheritDoc}
+     */
+    @Override
+    protected void forEachEntry(BiConsumer<Object, Object> action) {
+        for (int i = 0; i < keyValues.length; i++)
+            if (!superseded(i))
+                action.accept(keyValues[i].getKey(), keyValues[i].getValue());
+    }
+
+    /**
+     * Check if the key at the given index is repeated further in the array.
+     *
+     * @param index the given index
+     * @return {@code true} if the key at the given index is repeated further in the array
+     */
+    private boolean superseded(int index) {
+        Object key = keyValues[index].getKey();
+        for (int i = index + 1; i < keyValues.length; i++)
+            if (key.equals(keyValues[i].getKey()))
+                return true;
+        return false;
+    }
+
+    /**
+     * Return a {@link Context} by the given {@link KeyValue key-value array},
+     * a {@link SlotContext} if any of the keys is a {@link ContextKey}.
+     *
+     * @param keyValues the given {@link KeyValue key-value array}
+     * @return a {@link Context} by the given {@link KeyValue key-value array}
+     * @throws NullPointerException if the array, any of its elements or their keys or values is {@code null}
+     */
+    public static Context context(KeyValue<?, ?>... keyValues) {
+        if (keyValues.length == 0)
+            return Context.empty();
+        for (KeyValue<?, ?> keyValue : keyValues)
+            if (keyValue.getKey() instanceof ContextKey)
+                return SlotContext.context(keyValues);
+        return new KeyValueContext(keyValues);
+    }
+}
@@ -0,0 +1,149 @@
+package org.moodminds.reactive.context;
+
+import org.moodminds.elemental.KeyValue;
+import reactor.util.context.Context;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Context} implementation keeping the values of the {@link ContextKey}s in an array by their indexes,
+ * and of any other keys in the given {@link Context}, modified with the slots kept.
+ */
+public class SlotContext extends AbstractContext {
+
+    /**
+     * The values of the {@link ContextKey}s by their indexes, {@code null} if absent.
+     */
+    private final Object[] slots;
+
+    /**
+     * The {@link Context} of the other keys.
+     */
+    private final Context rest;
+
+    /**
+     * The number of entries, computed lazily.
+     */
+    private int size = -1;
+
+    /**
+     * Construct the object with the given slots array and {@link Context} of the other keys.
+     *
+     * @param slots the given array of the {@link ContextKey} values by their indexes
+     * @param rest  the given {@link Context} of the other keys
+     */
+    protected SlotContext(Object[] slots, Context rest) {
+        this.slots = slots; this.rest = requireNonNull(rest);
+    }
+
+    /**
+     * Return the value of the given {@link ContextKey} index, or {@code null} if absent.
+     *
+     * @param index the given {@link ContextKey} index
+     * @param <T>   the type of the value
+     * @return the value of the given {@link ContextKey} index, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    <T> T slot(int index) {
+        return index < slots.length ? (T) slots[index] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected <T> T find(Object key) {
+        return key instanceof ContextKey ? slot(((ContextKey<?>) key).index()) : rest.getOrDefault(key, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key   {@inheritDoc}
+     * @param value {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Context put(Object key, Object value) {
+        requireNonNull(key, "key"); requireNonNull(value, "value");
+        if (!(key instanceof ContextKey))
+            return new SlotContext(slots, rest.put(key, value));
+        int index = ((ContextKey<?>) key).index();
+        Object[] slots = Arrays.copyOf(this.slots, Math.max(this.slots.length, index + 1));
+        slots[index] = value;
+        return new SlotContext(slots, rest);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param key {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Context delete(Object key) {
+        if (!hasKey(key))
+            return this;
+        if (!(key instanceof ContextKey))
+            return new SlotContext(slots, rest.delete(key));
+        Object[] slots = this.slots.clone(); slots[((ContextKey<?>) key).index()] = null;
+        return new SlotContext(slots, rest);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        int size = this.size;
+        if (size < 0) {
+            size = rest.size(); for (Object slot : slots)
+                if (slot != null) size++;
+            this.size = size;
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param action {@inheritDoc}
+     */
+    @Override
+    protected void forEachEntry(BiConsumer<Object, Object> action) {
+        for (int i = 0; i < slots.length; i++)
+            if (slots[i] != null)
+                action.accept(ContextKey.key(i), slots[i]);
+        rest.forEach(action);
+    }
+
+    /**
+     * Return a {@link Context} by the given {@link KeyValue key-value array}, keeping the values of the
+     * {@link ContextKey}s in the slots, where a later key supersedes an earlier one.
+     *
+     * @param keyValues the given {@link KeyValue key-value array}
+     * @return a {@link Context} by the given {@link KeyValue key-value array}
+     * @throws NullPointerException if the array, any of its elements or their keys or values is {@code null}
+     */
+    public static Context context(KeyValue<?, ?>... keyValues) {
+        int length = 0, others = 0;
+        for (KeyValue<?, ?> keyValue : keyValues) {
+            Object key = requireNonNull(keyValue.getKey(), "key"); requireNonNull(keyValue.getValue(), "value");
+            if (key instanceof ContextKey) length = Math.max(length, ((ContextKey<?>) key).index() + 1);
+            else others++; }
+        Object[] slots = new Object[length];
+        KeyValue<?, ?>[] rest = new KeyValue<?, ?>[others]; others = 0;
+        for (KeyValue<?, ?> keyValue : keyValues)
+            if (keyValue.getKey() instanceof ContextKey) slots[((ContextKey<?>) keyValue.getKey()).index()] = keyValue.getValue();
+            else rest[others++] = keyValue;
+        return new SlotContext(slots, KeyValueContext.context(rest));
+    }
+}
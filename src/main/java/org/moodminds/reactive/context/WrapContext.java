@@ -7,16 +7,19 @@ import org.moodminds.elemental.Container;
 import org.moodminds.elemental.KeyValue;
 import org.moodminds.elemental.OptionalIterator;
 import org.moodminds.elemental.RandomMatch;
-import org.moodminds.elemental.WrapKeyValue;
 import reactor.util.context.Context;
 
 import java.io.Serializable;
 import java.util.Iterator;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.Spliterators;
 
+import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.NONNULL;
 
 /**
  * A wrapping {@link Context} implementation of the {@link Association} context.
@@ -31,6 +34,21 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     private final Context context;
 
+    /**
+     * The lazily taken {@link Snapshot} of the immutable {@link Context} entries.
+     */
+    private transient Snapshot snapshot;
+
+    /**
+     * The lazily created keys {@link Container}.
+     */
+    private transient Container<Object> keys;
+
+    /**
+     * The lazily created values {@link Container}.
+     */
+    private transient Container<Object> values;
+
     /**
      * Construct the object with the given {@link Context} context instance.
      *
@@ -75,7 +93,8 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     @Override
     public Container<Object> keys() {
-        return new KeysContainer();
+        Container<Object> keys = this.keys;
+        return keys != null ? keys : (this.keys = new KeysContainer());
     }
 
     /**
@@ -85,7 +104,8 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     @Override
     public Container<Object> values() {
-        return new ValuesContainer();
+        Container<Object> values = this.values;
+        return values != null ? values : (this.values = new ValuesContainer());
     }
 
     /**
@@ -105,7 +125,17 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     @Override
     public Iterator<KeyValue<?, ?>> iterator() {
-        return context.stream().<KeyValue<?, ?>>map(WrapKeyValue::wrap).iterator();
+        return asList(snapshot().keyValues).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Spliterator<KeyValue<?, ?>> spliterator() {
+        return Spliterators.spliterator(snapshot().keyValues, DISTINCT | IMMUTABLE | NONNULL);
     }
 
     /**
@@ -118,10 +148,41 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     @Override
     protected Iterator<KeyValue<?, ?>> iterator(Object key, Object value, boolean present) {
-        return OptionalIterator.iterator(() -> new AbstractKeyValue<Object, Object>() {
-            @Override public Object getKey() { return key; }
-            @Override public Object getValue() { return value; }
-        }, present);
+        return OptionalIterator.iterator(() -> snapshot().keyValue(key), present);
+    }
+
+    /**
+     * Return the wrapped {@link Context}.
+     *
+     * @return the wrapped {@link Context}
+     */
+    Context context() {
+        return context;
+    }
+
+    /**
+     * Return the {@link Snapshot} of the {@link Context} entries, taking it on the first call.
+     *
+     * @return the {@link Snapshot} of the {@link Context} entries
+     */
+    private Snapshot snapshot() {
+        Snapshot snapshot = this.snapshot;
+        return snapshot != null ? snapshot : (this.snapshot = new Snapshot(context));
+    }
+
+
+    /**
+     * Return an {@link Association} of the given {@link Context}, or the viewed {@link Association}
+     * itself if the {@link Context} is an {@link AssociationContext}.
+     *
+     * @param context the given {@link Context}
+     * @return an {@link Association} of the given {@link Context}
+     * @throws NullPointerException if the {@link Context} specified is {@code null}
+     */
+    public static Association<?, ?, ?> wrap(Context context) {
+        if (requireNonNull(context) instanceof AssociationContext)
+            return ((AssociationContext) context).association();
+        return new WrapContext(context);
     }
 
 
@@ -130,8 +191,11 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     protected class KeysContainer extends AbstractKeysContainer implements RandomMatch {
 
+        @Override public Iterator<Object> iterator() {
+            return asList(snapshot().keys).iterator(); }
+
         @Override public Spliterator<Object> spliterator() {
-            return WrapContext.this.context.stream().parallel().map(Entry::getKey).spliterator(); }
+            return Spliterators.spliterator(snapshot().keys, DISTINCT | IMMUTABLE | NONNULL); }
     }
 
     /**
@@ -139,7 +203,52 @@ public class WrapContext extends AbstractAssociation<Object, Object, KeyValue<?,
      */
     protected class ValuesContainer extends AbstractValuesContainer {
 
+        @Override public Iterator<Object> iterator() {
+            return asList(snapshot().values).iterator(); }
+
         @Override public Spliterator<Object> spliterator() {
-            return WrapContext.this.context.stream().parallel().map(Entry::getValue).spliterator(); }
+            return Spliterators.spliterator(snapshot().values, IMMUTABLE | NONNULL); }
+    }
+
+    /**
+     * The array snapshot of the immutable {@link Context} entries, taken by the {@link Context#forEach}
+     * which the Reactor's {@link Context} implementations run without streams. The final fields make
+     * the snapshot safe to publish without synchronization.
+     */
+    private static final class Snapshot {
+
+        final KeyValue<?, ?>[] keyValues;
+        final Object[] keys;
+        final Object[] values;
+
+        Snapshot(Context context) {
+            int size = context.size(), index[] = {0};
+            keyValues = new KeyValue<?, ?>[size]; keys = new Object[size]; values = new Object[size];
+            context.forEach((key, value) -> {
+                keyValues[index[0]] = new ContextKeyValue(key, value);
+                keys[index[0]] = key; values[index[0]++] = value; });
+        }
+
+        KeyValue<?, ?> keyValue(Object key) {
+            for (int i = 0; i < keys.length; i++)
+                if (keys[i].equals(key)) return keyValues[i];
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * A {@link KeyValue} of the {@link Context} entry.
+     */
+    private static final class ContextKeyValue extends AbstractKeyValue<Object, Object> {
+
+        private final Object key;
+        private final Object value;
+
+        ContextKeyValue(Object key, Object value) {
+            this.key = key; this.value = value;
+        }
+
+        @Override public Object getKey() { return key; }
+        @Override public Object getValue() { return value; }
     }
 }
@@ -0,0 +1,43 @@
+package org.moodminds.reactive;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@link Executor} factory for the blocking subscription and item consumption,
+ * to pass to the {@link Publishable#subscribeOn(Executor)} and {@link Publishable#publishOn(Executor)}.
+ * <p>
+ * This is the Java 21+ layer of the multi-release jar: the default {@link Executor} runs each task
+ * on a new virtual thread, so that the blocking consumers do not hold any platform threads.
+ */
+public final class BlockingExecutors {
+
+    private BlockingExecutors() {}
+
+    /**
+     * Return the shared default {@link Executor} for the blocking tasks.
+     *
+     * @return the shared default {@link Executor} for the blocking tasks
+     */
+    public static Executor executor() {
+        return Default.EXECUTOR;
+    }
+
+    /**
+     * Check if the {@link #executor()} runs the tasks on the virtual threads.
+     *
+     * @return {@code true} if the {@link #executor()} runs the tasks on the virtual threads
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * The lazily initialized default {@link Executor} holder.
+     */
+    private static final class Default {
+
+        static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("publishable-virtual-", 0).factory());
+    }
+}
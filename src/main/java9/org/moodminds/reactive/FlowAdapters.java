@@ -0,0 +1,211 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.util.context.Context;
+
+import java.util.concurrent.Flow;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The adapters between the {@link Publishable} and the {@link Flow} API, delivering the signals straight
+ * to the adapted object with no extra hop, and unwrapping an adapter back to the original object
+ * instead of stacking wrappers when adapting it back.
+ * <p>
+ * This class is in the Java 9+ layer of the multi-release jar.
+ */
+public final class FlowAdapters {
+
+    private FlowAdapters() {}
+
+    /**
+     * Return a {@link Flow.Publisher} of the given {@link Publishable}, or the original {@link Flow.Publisher}
+     * if the {@link Publishable} is an adapter of it.
+     *
+     * @param publishable the given {@link Publishable}
+     * @param <V>         the type of item values
+     * @param <E>         the type of potential exceptions
+     * @return a {@link Flow.Publisher} of the given {@link Publishable}
+     * @throws NullPointerException if the specified {@link Publishable} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <V, E extends Exception> Flow.Publisher<V> flowPublisher(Publishable<V, E> publishable) {
+        if (requireNonNull(publishable) instanceof FlowPublisherPublishable)
+            return (Flow.Publisher<V>) ((FlowPublisherPublishable<V, E>) publishable).publisher;
+        return new PublishableFlowPublisher<>(publishable);
+    }
+
+    /**
+     * Return a {@link Publishable} of the given {@link Flow.Publisher}, or the original {@link Publishable}
+     * if the {@link Flow.Publisher} is an adapter of it.
+     *
+     * @param publisher the given {@link Flow.Publisher}
+     * @param <V>       the type of item values
+     * @param <E>       the type of potential exceptions
+     * @return a {@link Publishable} of the given {@link Flow.Publisher}
+     * @throws NullPointerException if the specified {@link Flow.Publisher} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <V, E extends Exception> Publishable<V, E> publishable(Flow.Publisher<? extends V> publisher) {
+        if (requireNonNull(publisher) instanceof PublishableFlowPublisher)
+            return (Publishable<V, E>) ((PublishableFlowPublisher<?>) publisher).publishable;
+        return new FlowPublisherPublishable<>(publisher);
+    }
+
+    /**
+     * Return a {@link Publishable.Subscriber} of the given {@link Flow.Subscriber} and {@link Context},
+     * or the original {@link org.reactivestreams.Subscriber} if the {@link Flow.Subscriber} is an adapter of it
+     * and is a {@link Publishable.Subscriber}.
+     *
+     * @param subscriber the given {@link Flow.Subscriber}
+     * @param context    the given {@link Context}
+     * @param <V>        the type of item values
+     * @param <E>        the type of potential exceptions
+     * @return a {@link Publishable.Subscriber} of the given {@link Flow.Subscriber} and {@link Context}
+     * @throws NullPointerException if the specified {@link Flow.Subscriber} or {@link Context} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <V, E extends Exception> Publishable.Subscriber<V, E> subscriber(Flow.Subscriber<? super V> subscriber, Context context) {
+        if (requireNonNull(subscriber) instanceof SubscriberFlowSubscriber
+                && ((SubscriberFlowSubscriber<?>) subscriber).subscriber instanceof Publishable.Subscriber)
+            return (Publishable.Subscriber<V, E>) ((SubscriberFlowSubscriber<?>) subscriber).subscriber;
+        return new FlowSubscriberAdapter<>(subscriber, requireNonNull(context));
+    }
+
+    /**
+     * Return a {@link Flow.Subscriber} of the given {@link org.reactivestreams.Subscriber}, or the original
+     * {@link Flow.Subscriber} if the {@link org.reactivestreams.Subscriber} is an adapter of it.
+     *
+     * @param subscriber the given {@link org.reactivestreams.Subscriber}
+     * @param <V>        the type of item values
+     * @return a {@link Flow.Subscriber} of the given {@link org.reactivestreams.Subscriber}
+     * @throws NullPointerException if the specified {@link org.reactivestreams.Subscriber} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> Flow.Subscriber<V> flowSubscriber(org.reactivestreams.Subscriber<? super V> subscriber) {
+        if (requireNonNull(subscriber) instanceof FlowSubscriberAdapter)
+            return (Flow.Subscriber<V>) ((FlowSubscriberAdapter<?, ?>) subscriber).subscriber;
+        return new SubscriberFlowSubscriber<>(subscriber);
+    }
+
+    private static Flow.Subscription flowSubscription(Subscription subscription) {
+        if (subscription instanceof FlowSubscriptionAdapter)
+            return ((FlowSubscriptionAdapter) subscription).subscription;
+        return new SubscriptionFlowSubscription(subscription);
+    }
+
+    private static Subscription subscription(Flow.Subscription subscription) {
+        if (subscription instanceof SubscriptionFlowSubscription)
+            return ((SubscriptionFlowSubscription) subscription).subscription;
+        return new FlowSubscriptionAdapter(subscription);
+    }
+
+
+    /**
+     * A {@link Flow.Publisher} adapter of a {@link Publishable}.
+     *
+     * @param <V> the type of item values
+     */
+    private static final class PublishableFlowPublisher<V> implements Flow.Publisher<V> {
+
+        final Publishable<V, ?> publishable;
+
+        PublishableFlowPublisher(Publishable<V, ?> publishable) {
+            this.publishable = publishable;
+        }
+
+        @Override public void subscribe(Flow.Subscriber<? super V> subscriber) {
+            publishable.subscribe((CoreSubscriber<? super V>) subscriber(subscriber, Context.empty())); }
+    }
+
+    /**
+     * A {@link Publishable} adapter of a {@link Flow.Publisher}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    private static final class FlowPublisherPublishable<V, E extends Exception> implements FlowPublishable<V, E> {
+
+        final Flow.Publisher<? extends V> publisher;
+
+        FlowPublisherPublishable(Flow.Publisher<? extends V> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override public void subscribe(CoreSubscriber<? super V> subscriber) {
+            publisher.subscribe(flowSubscriber(subscriber)); }
+    }
+
+    /**
+     * A {@link Publishable.Subscriber} adapter of a {@link Flow.Subscriber}.
+     *
+     * @param <V> the type of item values
+     * @param <E> the type of potential exceptions
+     */
+    private static final class FlowSubscriberAdapter<V, E extends Exception> implements Publishable.Subscriber<V, E> {
+
+        final Flow.Subscriber<? super V> subscriber;
+        private final Context context;
+
+        FlowSubscriberAdapter(Flow.Subscriber<? super V> subscriber, Context context) {
+            this.subscriber = subscriber; this.context = context;
+        }
+
+        @Override public void onSubscribe(Subscription subscription) { subscriber.onSubscribe(flowSubscription(subscription)); }
+        @Override public void onNext(V item) { subscriber.onNext(item); }
+        @Override public void onError(E error) { subscriber.onError(error); }
+        @Override public void onError(Throwable error) { subscriber.onError(error); }
+        @Override public void onComplete() { subscriber.onComplete(); }
+        @Override public Context currentContext() { return context; }
+    }
+
+    /**
+     * A {@link Flow.Subscriber} adapter of a {@link org.reactivestreams.Subscriber}.
+     *
+     * @param <V> the type of item values
+     */
+    private static final class SubscriberFlowSubscriber<V> implements Flow.Subscriber<V> {
+
+        final org.reactivestreams.Subscriber<? super V> subscriber;
+
+        SubscriberFlowSubscriber(org.reactivestreams.Subscriber<? super V> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override public void onSubscribe(Flow.Subscription subscription) { subscriber.onSubscribe(subscription(subscription)); }
+        @Override public void onNext(V item) { subscriber.onNext(item); }
+        @Override public void onError(Throwable error) { subscriber.onError(error); }
+        @Override public void onComplete() { subscriber.onComplete(); }
+    }
+
+    /**
+     * A {@link Subscription} adapter of a {@link Flow.Subscription}.
+     */
+    private static final class FlowSubscriptionAdapter implements Subscription {
+
+        final Flow.Subscription subscription;
+
+        FlowSubscriptionAdapter(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override public void request(long n) { subscription.request(n); }
+        @Override public void cancel() { subscription.cancel(); }
+    }
+
+    /**
+     * A {@link Flow.Subscription} adapter of a {@link Subscription}.
+     */
+    private static final class SubscriptionFlowSubscription implements Flow.Subscription {
+
+        final Subscription subscription;
+
+        SubscriptionFlowSubscription(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override public void request(long n) { subscription.request(n); }
+        @Override public void cancel() { subscription.cancel(); }
+    }
+}
@@ -0,0 +1,73 @@
+package org.moodminds.reactive;
+
+import org.moodminds.elemental.Association;
+import org.moodminds.elemental.KeyValue;
+import reactor.core.CoreSubscriber;
+
+import java.util.concurrent.Flow;
+
+import static java.util.Objects.requireNonNull;
+import static org.moodminds.reactive.context.ContainerContext.context;
+import static org.moodminds.reactive.context.KeyValueContext.context;
+
+/**
+ * A {@link Publishable} extension subscribed by the {@link Flow.Subscriber}s directly
+ * and adapted to the {@link Flow.Publisher}.
+ * <p>
+ * This interface is in the Java 9+ layer of the multi-release jar.
+ *
+ * @param <V> the type of item values
+ * @param <E> the type of potential exceptions
+ */
+@FunctionalInterface
+public interface FlowPublishable<V, E extends Exception> extends Publishable<V, E> {
+
+    /**
+     * Subscribe to this Publishable with the specified {@link Flow.Subscriber} and {@link KeyValue key-value array context}.
+     *
+     * @param subscriber the given {@link Flow.Subscriber}
+     * @param ctx        the given {@link KeyValue key-value array context}
+     * @throws NullPointerException if the specified {@link Flow.Subscriber} is {@code null}
+     */
+    default void subscribe(Flow.Subscriber<? super V> subscriber, KeyValue<?, ?>... ctx) {
+        subscribe((CoreSubscriber<? super V>) FlowAdapters.subscriber(subscriber, context(ctx)));
+    }
+
+    /**
+     * Subscribe to this Publishable with the specified {@link Flow.Subscriber} and {@link Association context}.
+     *
+     * @param subscriber the given {@link Flow.Subscriber}
+     * @param ctx        the given {@link Association context}
+     * @throws NullPointerException if the specified {@link Flow.Subscriber} or {@link Association context} is {@code null}
+     */
+    default void subscribe(Flow.Subscriber<? super V> subscriber, Association<?, ?, ?> ctx) {
+        subscribe((CoreSubscriber<? super V>) FlowAdapters.subscriber(subscriber, context(ctx)));
+    }
+
+    /**
+     * Return a {@link Flow.Publisher} of this Publishable.
+     *
+     * @return a {@link Flow.Publisher} of this Publishable
+     */
+    default Flow.Publisher<V> toFlowPublisher() {
+        return FlowAdapters.flowPublisher(this);
+    }
+
+    /**
+     * Return a FlowPublishable of the given {@link Publishable}, or the {@link Publishable} itself if it is a FlowPublishable.
+     *
+     * @param publishable the given {@link Publishable}
+     * @param <V>         the type of item values
+     * @param <E>         the type of potential exceptions
+     * @return a FlowPublishable of the given {@link Publishable}
+     * @throws NullPointerException if the specified {@link Publishable} is {@code null}
+     */
+    static <V, E extends Exception> FlowPublishable<V, E> flow(Publishable<V, E> publishable) {
+        if (requireNonNull(publishable) instanceof FlowPublishable)
+            return (FlowPublishable<V, E>) publishable;
+        return new FlowPublishable<V, E>() {
+            @Override public void subscribe(CoreSubscriber<? super V> subscriber) { publishable.subscribe(subscriber); }
+            @Override public Class<E> faultType() { return publishable.faultType(); }
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package org.moodminds.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.moodminds.reactive.Emitter.Overflow;
+import org.moodminds.reactive.Emitter.Result;
+import reactor.core.Exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.reactive.Emitter.emitter;
+
+class EmitterTest {
+
+    @Test
+    void bufferHoldsItemsUntilDemanded() {
+        Emitter<Integer, Exception> emitter = emitter();
+        assertEquals(Result.OK, emitter.next(1)); assertEquals(Result.OK, emitter.next(2)); assertEquals(Result.OK, emitter.next(3));
+        assertEquals(3, emitter.buffered());
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        emitter.publishable().subscribe(subscriber);
+        assertEquals(emptyList(), subscriber.items());
+
+        subscriber.request(2);
+        assertEquals(asList(1, 2), subscriber.items()); assertEquals(1, emitter.buffered());
+
+        assertEquals(Result.OK, emitter.complete());
+        assertFalse(subscriber.isTerminated());
+
+        subscriber.request(1);
+        assertEquals(asList(1, 2, 3), subscriber.items()); assertTrue(subscriber.isCompleted());
+        assertEquals(0, emitter.buffered());
+        assertEquals(Result.FAIL_TERMINATED, emitter.next(4));
+    }
+
+    @Test
+    void bufferEmitsAtOnceOnDemand() {
+        Emitter<Integer, Exception> emitter = emitter();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        emitter.publishable().subscribe(subscriber);
+
+        assertEquals(Result.OK, emitter.next(1));
+        assertEquals(asList(1), subscriber.items()); assertEquals(0, emitter.buffered());
+    }
+
+    @Test
+    void bufferIgnoresCapacity() {
+        Emitter<Integer, Exception> emitter = emitter(Overflow.BUFFER, 1);
+        assertEquals(Result.OK, emitter.next(1)); assertEquals(Result.OK, emitter.next(2));
+        assertEquals(2, emitter.buffered());
+    }
+
+    @Test
+    void dropDropsOverflowingItems() {
+        Emitter<Integer, Exception> emitter = emitter(Overflow.DROP, 2);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        emitter.publishable().subscribe(subscriber);
+
+        assertEquals(Result.OK, emitter.next(1)); assertEquals(Result.OK, emitter.next(2));
+        assertEquals(Result.DROPPED, emitter.next(3));
+        assertEquals(2, emitter.buffered());
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(asList(1, 2), subscriber.items()); assertEquals(0, emitter.buffered());
+
+        assertEquals(Result.OK, emitter.next(4));
+        assertEquals(asList(1, 2, 4), subscriber.items());
+    }
+
+    @Test
+    void latestKeepsLastOverflowingItem() {
+        Emitter<Integer, Exception> emitter = emitter(Overflow.LATEST, 2);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        emitter.publishable().subscribe(subscriber);
+
+        assertEquals(Result.OK, emitter.next(1)); assertEquals(Result.OK, emitter.next(2));
+        assertEquals(Result.OK, emitter.next(3)); assertEquals(Result.DROPPED, emitter.next(4));
+        assertEquals(3, emitter.buffered());
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(asList(1, 2, 4), subscriber.items()); assertEquals(0, emitter.buffered());
+    }
+
+    @Test
+    void failTerminatesAtOnceOnOverflow() {
+        Emitter<Integer, Exception> emitter = emitter(Overflow.FAIL, 2);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        emitter.publishable().subscribe(subscriber);
+
+        assertEquals(Result.OK, emitter.next(1)); assertEquals(Result.OK, emitter.next(2));
+        assertEquals(Result.FAIL_OVERFLOW, emitter.next(3));
+
+        assertTrue(Exceptions.isOverflow(subscriber.error())); assertEquals(emptyList(), subscriber.items());
+        assertEquals(0, emitter.buffered());
+        assertEquals(Result.FAIL_TERMINATED, emitter.next(4)); assertEquals(Result.FAIL_TERMINATED, emitter.complete());
+    }
+
+    @Test
+    void failEmitsWithinCapacity() {
+        Emitter<Integer, Exception> emitter = emitter(Overflow.FAIL, 1);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        emitter.publishable().subscribe(subscriber);
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(Result.OK, emitter.next(i));
+        emitter.complete();
+        assertEquals(10, subscriber.items().size()); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void faultDeliveredAsIs() {
+        Emitter<Integer, IOException> emitter = emitter(IOException.class);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        emitter.publishable().subscribe(subscriber);
+
+        IOException fault = new IOException();
+        assertEquals(Result.OK, emitter.fault(fault));
+        assertSame(fault, subscriber.error());
+        assertEquals(IOException.class, emitter.publishable().faultType());
+    }
+
+    @Test
+    void cancelDiscardsBufferedItems() {
+        Emitter<Integer, Exception> emitter = emitter();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        emitter.publishable().subscribe(subscriber);
+        emitter.next(1); emitter.next(2);
+
+        subscriber.cancel();
+        assertEquals(0, emitter.buffered());
+        assertEquals(Result.FAIL_CANCELLED, emitter.next(3)); assertEquals(Result.FAIL_CANCELLED, emitter.complete());
+        assertFalse(subscriber.isTerminated());
+    }
+
+    @Test
+    void secondSubscriberRejected() {
+        Emitter<Integer, Exception> emitter = emitter();
+        emitter.publishable().subscribe(new TestSubscriber<>(0));
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        emitter.publishable().subscribe(subscriber);
+        assertInstanceOf(IllegalStateException.class, subscriber.error());
+    }
+
+    @Test
+    void acceptedItemsDeliveredBeforeConcurrentCompletion() throws InterruptedException {
+        for (Overflow overflow : Overflow.values())
+            for (int round = 0; round < 500; round++) {
+                Emitter<Integer, Exception> emitter = emitter(overflow, 128);
+                TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+                emitter.publishable().subscribe(subscriber);
+
+                AtomicInteger accepted = new AtomicInteger();
+                Thread producer = new Thread(() -> {
+                    for (int i = 0; i < 100; i++)
+                        if (emitter.next(i).isSuccess()) accepted.incrementAndGet(); });
+                producer.start(); Thread.yield();
+                emitter.complete(); producer.join();
+
+                assertTrue(subscriber.await().isCompleted()); assertEquals(1, subscriber.terminations());
+                assertEquals(accepted.get(), subscriber.items().size(), overflow + " accepted items delivered");
+                assertEquals(0, emitter.buffered());
+            }
+    }
+}
@@ -0,0 +1,25 @@
+package org.moodminds.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class IntPublishableTest {
+
+    @Test
+    void rangeEmitsUpToMaxValue() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        IntPublishable.<Exception>range(Integer.MAX_VALUE - 1, 2).subscribe(subscriber);
+        assertEquals(asList(Integer.MAX_VALUE - 1, Integer.MAX_VALUE), subscriber.items()); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void rangeRejectsOverflow() {
+        try {
+            IntPublishable.range(Integer.MAX_VALUE, 2); fail("Overflowing range accepted");
+        } catch (IllegalArgumentException expected) {}
+    }
+}
@@ -0,0 +1,25 @@
+package org.moodminds.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class LongPublishableTest {
+
+    @Test
+    void rangeEmitsUpToMaxValue() {
+        TestSubscriber<Long> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        LongPublishable.<Exception>range(Long.MAX_VALUE - 1, 2L).subscribe(subscriber);
+        assertEquals(asList(Long.MAX_VALUE - 1, Long.MAX_VALUE), subscriber.items()); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void rangeRejectsOverflow() {
+        try {
+            LongPublishable.range(Long.MAX_VALUE, 2L); fail("Overflowing range accepted");
+        } catch (IllegalArgumentException expected) {}
+    }
+}
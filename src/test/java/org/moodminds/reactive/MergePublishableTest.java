@@ -0,0 +1,141 @@
+package org.moodminds.reactive;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.naturalOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.reactive.FluxPublishable.flux;
+import static org.moodminds.reactive.Publishable.merge;
+import static org.moodminds.reactive.Publishable.mergeOrdered;
+
+class MergePublishableTest {
+
+    private static Publishable<Integer, IOException> source(Integer... items) {
+        return flux(Flux.just(items), IOException.class);
+    }
+
+    private static Publishable<Integer, IOException> failing(IOException fault, Integer... items) {
+        return flux(Flux.just(items).concatWith(Flux.error(fault)), IOException.class);
+    }
+
+    @Test
+    void mergesUnordered() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        merge(asList(source(1, 2), source(3), source())).subscribe(subscriber);
+
+        List<Integer> items = new ArrayList<>(subscriber.items()); items.sort(null);
+        assertEquals(asList(1, 2, 3), items); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void mergesManySourcesConcurrently() {
+        List<Publishable<Integer, IOException>> sources = IntStream.range(0, 500)
+                .mapToObj(i -> flux(Flux.range(i * 10, 10).publishOn(reactor.core.scheduler.Schedulers.parallel()), IOException.class))
+                .collect(Collectors.toList());
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        merge(sources, 4, false).subscribe(subscriber);
+
+        List<Integer> items = new ArrayList<>(subscriber.await().items()); items.sort(null);
+        assertEquals(IntStream.range(0, 5000).boxed().collect(Collectors.toList()), items);
+        assertTrue(subscriber.isCompleted()); assertEquals(1, subscriber.terminations());
+    }
+
+    @Test
+    void mergesEmpty() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        Publishable.<Integer, IOException>merge(emptyList()).subscribe(subscriber);
+        assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void honorsDemandAndPrefetch() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Publishable<Integer, IOException> source = flux(Flux.range(0, 100).doOnRequest(requests::add), IOException.class);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(3);
+        merge(asList(source), 8, false).subscribe(subscriber);
+
+        assertEquals(asList(0, 1, 2), subscriber.items());
+        assertEquals(asList(8L), requests);
+    }
+
+    @Test
+    void failsFastUnordered() {
+        IOException fault = new IOException();
+        AtomicInteger cancellations = new AtomicInteger();
+        Publishable<Integer, IOException> never = flux(Flux.<Integer>never().doOnCancel(cancellations::incrementAndGet), IOException.class);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        merge(asList(never, failing(fault, 1)), 4, false).subscribe(subscriber);
+
+        assertEquals(asList(1), subscriber.items()); assertSame(fault, subscriber.error());
+        assertEquals(1, cancellations.get());
+    }
+
+    @Test
+    void delaysFaultUnordered() {
+        IOException fault = new IOException(), other = new IOException();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        merge(asList(failing(fault, 1), source(2, 3), failing(other, 4)), 4, true).subscribe(subscriber);
+
+        List<Integer> items = new ArrayList<>(subscriber.items()); items.sort(null);
+        assertEquals(asList(1, 2, 3, 4), items); assertSame(fault, subscriber.error());
+        assertEquals(1, subscriber.terminations());
+    }
+
+    @Test
+    void mergesOrdered() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        mergeOrdered(asList(source(1, 4, 7), source(2, 5, 8), source(3, 6, 9), source()), naturalOrder(), 2, false)
+                .subscribe(subscriber);
+
+        assertEquals(asList(1, 2, 3, 4, 5, 6, 7, 8, 9), subscriber.items()); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void mergesOrderedByDemand() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(2);
+        mergeOrdered(asList(source(1, 3, 5), source(2, 4, 6)), naturalOrder(), 1, false).subscribe(subscriber);
+        assertEquals(asList(1, 2), subscriber.items());
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(asList(1, 2, 3, 4, 5, 6), subscriber.items()); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void failsFastOrdered() {
+        IOException fault = new IOException();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+        mergeOrdered(asList(source(1, 3, 5), failing(fault, 2)), naturalOrder(), 4, false).subscribe(subscriber);
+
+        assertEquals(emptyList(), subscriber.items()); assertSame(fault, subscriber.error());
+    }
+
+    @Test
+    void delaysFaultOrdered() {
+        IOException fault = new IOException();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        mergeOrdered(asList(source(1, 3, 5), failing(fault, 2, 4)), naturalOrder(), 4, true).subscribe(subscriber);
+
+        assertEquals(asList(1, 2, 3, 4, 5), subscriber.items()); assertSame(fault, subscriber.error());
+    }
+
+    @Test
+    void keepsCommonFaultType() {
+        assertEquals(IOException.class, merge(asList(source(), source())).faultType());
+        assertNull(merge(asList(source(), flux(Flux.<Integer>empty(), FileNotFoundException.class))).faultType());
+    }
+}
@@ -0,0 +1,134 @@
+package org.moodminds.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.moodminds.reactive.context.ContextPropagation;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.reactive.FluxPublishable.flux;
+import static org.moodminds.reactive.ParallelPublishable.parallel;
+
+class ParallelPublishableTest {
+
+    private static List<Integer> range(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void sequentialDeliversAllItems() {
+        ParallelPublishable<Integer, IOException> parallel = parallel(flux(Flux.range(0, 1000), IOException.class), 4, 16);
+        assertEquals(4, parallel.rails()); assertEquals(16, parallel.prefetch());
+        assertEquals(IOException.class, parallel.faultType());
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        parallel.sequential().subscribe(subscriber);
+
+        List<Integer> items = new ArrayList<>(subscriber.await().items()); items.sort(null);
+        assertEquals(range(1000), items); assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    void orderedKeepsSourceOrder() {
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        parallel(flux(Flux.range(0, 1000)), 4, 16).map(item -> item * 2).filter(item -> item % 3 != 0)
+                .ordered().subscribe(subscriber);
+
+        assertEquals(range(2000).stream().filter(item -> item % 2 == 0 && item % 3 != 0).collect(Collectors.toList()),
+                subscriber.await().items());
+    }
+
+    @Test
+    void consumesOnRailThreads() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Set<Integer> items = ConcurrentHashMap.newKeySet(); Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            AtomicInteger completions = new AtomicInteger(); CountDownLatch completed = new CountDownLatch(1);
+            parallel(flux(Flux.range(0, 1000)), 4, 16, executor).subscribe(
+                    item -> { items.add(item); threads.add(Thread.currentThread()); }, fault -> {}, error -> {},
+                    () -> { completions.incrementAndGet(); completed.countDown(); }, Context.empty());
+
+            assertTrue(completed.await(10, SECONDS));
+            assertEquals(1000, items.size()); assertEquals(1, completions.get());
+            assertFalse(threads.contains(Thread.currentThread()));
+        } finally {
+            executor.shutdown(); }
+    }
+
+    @Test
+    void consumerFaultTerminatesRails() throws InterruptedException {
+        IOException fault = new IOException();
+        AtomicReference<Object> terminal = new AtomicReference<>(); CountDownLatch terminated = new CountDownLatch(1);
+        parallel(flux(Flux.range(0, 1000), IOException.class), 4, 16).subscribe(
+                item -> { if (item == 500) throw fault; },
+                error -> { terminal.set(error); terminated.countDown(); },
+                error -> { terminal.set("error " + error); terminated.countDown(); },
+                () -> { terminal.set("complete"); terminated.countDown(); }, Context.empty());
+
+        assertTrue(terminated.await(10, SECONDS)); assertSame(fault, terminal.get());
+    }
+
+    @Test
+    void stageFaultTerminatesSequential() {
+        IOException fault = new IOException();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        parallel(flux(Flux.range(0, 1000), IOException.class), 4, 16)
+                .map(item -> { if (item == 500) throw fault; return item; }).sequential().subscribe(subscriber);
+
+        assertSame(fault, subscriber.await().error());
+    }
+
+    @Test
+    void sourceErrorDeliveredToErrorConsumer() throws InterruptedException {
+        IllegalStateException error = new IllegalStateException();
+        AtomicReference<Object> terminal = new AtomicReference<>(); CountDownLatch terminated = new CountDownLatch(1);
+        parallel(flux(Flux.<Integer>error(error), IOException.class), 4, 16).subscribe(item -> {},
+                fault -> { terminal.set("fault " + fault); terminated.countDown(); },
+                e -> { terminal.set(e); terminated.countDown(); }, terminated::countDown, Context.empty());
+
+        assertTrue(terminated.await(10, SECONDS)); assertSame(error, terminal.get());
+    }
+
+    @Test
+    void propagatesContextOnRails() throws Exception {
+        ThreadLocal<String> local = new ThreadLocal<>();
+        ContextPropagation.register(new ContextPropagation.Accessor<String>() {
+            @Override public Object key() { return ParallelPublishableTest.class; }
+            @Override public String get() { return local.get(); }
+            @Override public void set(String value) { local.set(value); }
+            @Override public void reset() { local.remove(); }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Set<String> values = ConcurrentHashMap.newKeySet(); AtomicReference<String> completion = new AtomicReference<>();
+            CountDownLatch completed = new CountDownLatch(1);
+            parallel(flux(Flux.range(0, 100)), 4, 16, executor).subscribe(item -> values.add(String.valueOf(local.get())),
+                    fault -> {}, error -> {}, () -> { completion.set(local.get()); completed.countDown(); },
+                    Context.of(ParallelPublishableTest.class, "value"));
+
+            assertTrue(completed.await(10, SECONDS));
+            assertEquals(singleton("value"), values); assertEquals("value", completion.get());
+            assertNull(executor.submit(local::get).get());
+        } finally {
+            executor.shutdown(); ContextPropagation.unregister(ParallelPublishableTest.class); }
+    }
+}
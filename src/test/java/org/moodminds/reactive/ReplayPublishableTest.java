@@ -0,0 +1,126 @@
+package org.moodminds.reactive;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.moodminds.reactive.Emitter.emitter;
+import static org.moodminds.reactive.FluxPublishable.flux;
+
+class ReplayPublishableTest {
+
+    @Test
+    void sharesSingleSubscription() {
+        Emitter<Integer, Exception> emitter = emitter();
+        Publishable<Integer, Exception> multicast = emitter.publishable().multicast(4);
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE), second = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(first); multicast.subscribe(second);
+
+        emitter.next(1); emitter.next(2); emitter.complete();
+        assertEquals(asList(1, 2), first.items()); assertTrue(first.isCompleted());
+        assertEquals(asList(1, 2), second.items()); assertTrue(second.isCompleted());
+    }
+
+    @Test
+    void replaysHistoryToLateSubscribers() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Publishable<Integer, IOException> multicast = flux(Flux.range(0, 10)
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet()), IOException.class).multicast(3);
+
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(first);
+        assertEquals(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), first.items()); assertTrue(first.isCompleted());
+
+        TestSubscriber<Integer> late = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(late);
+        assertEquals(asList(6, 7, 8, 9), late.items()); assertTrue(late.isCompleted());
+        assertEquals(1, subscriptions.get()); assertEquals(IOException.class, multicast.faultType());
+    }
+
+    @Test
+    void replaysHistoryToLateSubscriberWhileConnected() {
+        Emitter<Integer, Exception> emitter = emitter();
+        Publishable<Integer, Exception> multicast = emitter.publishable().multicast(2);
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(first);
+        emitter.next(1); emitter.next(2); emitter.next(3);
+
+        TestSubscriber<Integer> late = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(late);
+        emitter.next(4); emitter.complete();
+        assertEquals(asList(2, 3, 4), late.items()); assertTrue(late.isCompleted());
+    }
+
+    @Test
+    void requestsNoFurtherThanHistoryAheadOfSlowest() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Publishable<Integer, Exception> multicast = flux(Flux.range(0, 100).doOnRequest(requests::add)).multicast(4);
+        TestSubscriber<Integer> fast = new TestSubscriber<>(Long.MAX_VALUE), slow = new TestSubscriber<>(0);
+        multicast.subscribe(slow); multicast.subscribe(fast);
+
+        assertEquals(asList(0, 1, 2, 3), fast.items()); assertEquals(emptyList(), slow.items());
+        assertEquals(4, requests.stream().mapToLong(Long::longValue).sum());
+
+        slow.request(2);
+        assertEquals(asList(0, 1), slow.items()); assertEquals(asList(0, 1, 2, 3, 4, 5), fast.items());
+        assertEquals(6, requests.stream().mapToLong(Long::longValue).sum());
+
+        slow.request(Long.MAX_VALUE);
+        assertTrue(slow.isCompleted()); assertTrue(fast.isCompleted());
+        assertEquals(100, slow.items().size()); assertEquals(100, fast.items().size());
+    }
+
+    @Test
+    void deliversFaultToEverySubscriber() {
+        IOException fault = new IOException();
+        Publishable<Integer, IOException> multicast = flux(Flux.just(1).concatWith(Flux.error(fault)), IOException.class).multicast(4);
+        TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE), late = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(first); multicast.subscribe(late);
+
+        assertEquals(asList(1), first.items()); assertSame(fault, first.error());
+        assertEquals(asList(1), late.items()); assertSame(fault, late.error());
+    }
+
+    @Test
+    void cancelsSourceOnceLastSubscriberCancels() {
+        AtomicInteger subscriptions = new AtomicInteger(), cancellations = new AtomicInteger();
+        Publishable<Integer, Exception> multicast = flux(Flux.range(0, 100)
+                .doOnSubscribe(subscription -> subscriptions.incrementAndGet())
+                .doOnCancel(cancellations::incrementAndGet)).multicast(4);
+        TestSubscriber<Integer> first = new TestSubscriber<>(1), second = new TestSubscriber<>(1);
+        multicast.subscribe(first); multicast.subscribe(second);
+
+        first.cancel();
+        assertEquals(0, cancellations.get());
+        second.cancel();
+        assertEquals(1, cancellations.get());
+
+        TestSubscriber<Integer> next = new TestSubscriber<>(Long.MAX_VALUE);
+        multicast.subscribe(next);
+        assertEquals(2, subscriptions.get());
+        assertEquals(100, next.items().size()); assertEquals(asList(0, 1), next.items().subList(0, 2)); assertTrue(next.isCompleted());
+        assertFalse(first.isTerminated());
+    }
+
+    @Test
+    void connectsWithFirstSubscriberContext() {
+        List<Object> contexts = new CopyOnWriteArrayList<>();
+        Publishable<Integer, Exception> multicast = flux(Flux.deferContextual(context -> {
+            contexts.add(context.get("key")); return Flux.just(1); })).multicast(4);
+        multicast.subscribe(new TestSubscriber<>(Long.MAX_VALUE, Context.of("key", "first")));
+        multicast.subscribe(new TestSubscriber<>(Long.MAX_VALUE, Context.of("key", "second")));
+
+        assertEquals(asList("first"), contexts);
+    }
+}
@@ -0,0 +1,99 @@
+package org.moodminds.reactive;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.util.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@link CoreSubscriber} recording the signals it receives, requesting the given initial demand.
+ *
+ * @param <V> the type of item values
+ */
+final class TestSubscriber<V> implements CoreSubscriber<V> {
+
+    private final long demand;
+    private final Context context;
+    private final List<V> items = new ArrayList<>();
+    private final AtomicInteger terminations = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private volatile Subscription subscription;
+    private volatile Throwable error;
+
+    TestSubscriber(long demand) {
+        this(demand, Context.empty());
+    }
+
+    TestSubscriber(long demand, Context context) {
+        this.demand = demand; this.context = context;
+    }
+
+    @Override public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        if (demand > 0) subscription.request(demand); }
+
+    @Override public void onNext(V item) {
+        synchronized (items) { items.add(item); } }
+
+    @Override public void onError(Throwable error) {
+        this.error = error; terminations.incrementAndGet(); terminated.countDown(); }
+
+    @Override public void onComplete() {
+        terminations.incrementAndGet(); terminated.countDown(); }
+
+    @Override public Context currentContext() { return context; }
+
+    void request(long n) {
+        subscription.request(n);
+    }
+
+    void cancel() {
+        subscription.cancel();
+    }
+
+    /**
+     * Wait for the terminal signal, failing after 10 seconds.
+     *
+     * @return this TestSubscriber
+     */
+    TestSubscriber<V> await() {
+        try {
+            if (!terminated.await(10, SECONDS))
+                throw new AssertionError("Not terminated in 10 seconds, received " + items());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); throw new AssertionError(e); }
+        return this;
+    }
+
+    List<V> items() {
+        synchronized (items) { return new ArrayList<>(items); }
+    }
+
+    Throwable error() {
+        return error;
+    }
+
+    boolean isCompleted() {
+        return terminations.get() > 0 && error == null;
+    }
+
+    boolean isTerminated() {
+        return terminations.get() > 0;
+    }
+
+    /**
+     * Return the number of the terminal signals received, expected to be at most one.
+     *
+     * @return the number of the terminal signals received
+     */
+    int terminations() {
+        return terminations.get();
+    }
+}
@@ -0,0 +1,33 @@
+package org.moodminds.reactive.context;
+
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class AssociationContextTest {
+
+    private final AssociationContext context = new AssociationContext(new WrapContext(Context.of("key", "value")));
+
+    @Test
+    void findsPresentKey() {
+        assertTrue(context.hasKey("key")); assertEquals("value", context.get("key"));
+        assertEquals("value", context.getOrDefault("key", "default")); assertEquals(1, context.size());
+    }
+
+    @Test
+    void missesAbsentKey() {
+        assertFalse(context.hasKey("missing"));
+        assertEquals("default", context.getOrDefault("missing", "default"));
+        assertNull(context.getOrDefault("missing", null));
+        try {
+            context.get("missing"); fail("Absent key found");
+        } catch (NoSuchElementException expected) {}
+    }
+}